@@ -2,16 +2,14 @@ package com.sbtlauien.spacecrawler;
 
 import android.Manifest;
 import android.app.Activity;
-import android.content.BroadcastReceiver;
-import android.content.Context;
 import android.content.Intent;
-import android.content.IntentFilter;
 import android.content.pm.PackageManager;
 import android.os.Environment;
 import android.support.v4.app.ActivityCompat;
 import android.support.v4.content.ContextCompat;
 import android.support.v7.app.AppCompatActivity;
 import android.os.Bundle;
+import android.os.Handler;
 import android.view.Gravity;
 import android.view.View;
 import android.widget.Button;
@@ -27,6 +25,9 @@ import java.util.ArrayList;
 
 public class MainActivity extends AppCompatActivity {
 
+    private static final int STATS_INTERVAL = 100;
+    private final Handler handler = new Handler();
+    private final ArrayList<String> lines = new ArrayList<>();
     private Button startButton;
     private TextView error, pages, finished, internalPages, externalPages, sourceWatchListCount, linkWatchListCount, results;
     private EditText urlData;
@@ -37,10 +38,6 @@ public class MainActivity extends AppCompatActivity {
         super.onCreate(savedInstanceState);
         overridePendingTransition(R.anim.abc_fade_in, R.anim.abc_fade_out);
         setContentView(R.layout.activity_main);
-        final LineReceiver lineReceiver = new LineReceiver();
-        IntentFilter intentFilter = new IntentFilter();
-        intentFilter.addAction("LINE_ACTION");
-        registerReceiver(lineReceiver, intentFilter);
         error = (TextView) findViewById(R.id.error);
         pages = (TextView) findViewById(R.id.pages);
         finished = (TextView) findViewById(R.id.finished);
@@ -64,7 +61,7 @@ public class MainActivity extends AppCompatActivity {
                     sourceWatchListCount.setText("0");
                     linkWatchListCount.setText("0");
                     results.setText("");
-                    new WebCrawler(urlData.getText().toString(), "0");
+                    new WebCrawler(urlData.getText().toString(), WebCrawler.USER_AGENT);
                 } else {
                     WebCrawler.setAtomic(true);
                     startButton.setText(R.string.start);
@@ -257,7 +254,7 @@ public class MainActivity extends AppCompatActivity {
         exitButton.setOnClickListener(new View.OnClickListener(){
             public void onClick(View v){
                 WebCrawler.setAtomic(true);
-                unregisterReceiver(lineReceiver);
+                handler.removeCallbacks(statsUpdater);
                 finish();
             }
         });
@@ -267,11 +264,13 @@ public class MainActivity extends AppCompatActivity {
         }
         File f = new File(Environment.getExternalStorageDirectory().getPath() + "/SpaceCrawler");
         if (!f.exists()){f.mkdir();}
+        WebCrawler.setHome(f);
         WebCrawler.setAtomic(false);
         try {
             java.util.Scanner s = new java.util.Scanner(getAssets().open("Extensions")).useDelimiter("\\A");
             WebCrawler.setExtensions(s.hasNext() ? s.next() : "");
         } catch (Exception e){}
+        handler.post(statsUpdater);
     }
 
     public static void toast(String s, boolean longToast){
@@ -289,39 +288,46 @@ public class MainActivity extends AppCompatActivity {
         return activity;
     }
 
-    private class LineReceiver extends BroadcastReceiver {
+    private final Runnable statsUpdater = new Runnable() {
         @Override
-        public void onReceive(Context arg0, Intent arg1){
-            if (arg1.getStringExtra("lineKey").startsWith("ERROR=")) {
-                error.setText(arg1.getStringExtra("lineKey").split("ERROR=")[1]);
-            } else if (arg1.getStringExtra("lineKey").startsWith("PAGES=")) {
-                pages.setText(arg1.getStringExtra("lineKey").split("PAGES=")[1]);
-            } else if (arg1.getStringExtra("lineKey").startsWith("FINISHED=")) {
-                finished.setText(arg1.getStringExtra("lineKey").split("FINISHED=")[1]);
-            } else if (arg1.getStringExtra("lineKey").startsWith("INTERNALPAGES=")) {
-                internalPages.setText(arg1.getStringExtra("lineKey").split("INTERNALPAGES=")[1]);
-            } else if (arg1.getStringExtra("lineKey").startsWith("EXTERNALPAGES=")){
-                externalPages.setText(arg1.getStringExtra("lineKey").split("EXTERNALPAGES=")[1]);
-            } else if (arg1.getStringExtra("lineKey").startsWith("LINKWATCHLIST=")){
-                linkWatchListCount.setText(arg1.getStringExtra("lineKey").split("LINKWATCHLIST=")[1]);
-            } else if (arg1.getStringExtra("lineKey").startsWith("SOURCEWATCHLIST=")){
-                sourceWatchListCount.setText(arg1.getStringExtra("lineKey").split("SOURCEWATCHLIST=")[1]);
-            } else if (arg1.getStringExtra("lineKey").startsWith("ALLFINISHED=TRUE")){
+        public void run() {
+            CrawlStats stats = WebCrawler.getStats();
+            setCount(error, stats.errors().get());
+            setCount(pages, stats.pages().get());
+            setCount(finished, stats.finished().get());
+            setCount(internalPages, stats.internalPages().get());
+            setCount(externalPages, stats.externalPages().get());
+            setCount(linkWatchListCount, stats.linkWatchList().get());
+            setCount(sourceWatchListCount, stats.sourceWatchList().get());
+            int dropped = stats.drainLines(lines);
+            if (dropped > 0 || !lines.isEmpty()) {
+                StringBuilder sb = new StringBuilder();
+                if (dropped > 0) sb.append("SKIPPED ").append(dropped).append(" LINES\n");
+                for (String line : lines) {
+                    sb.append(line).append("\n");
+                }
+                lines.clear();
+                results.append(sb);
+            }
+            stats.drainProblems(lines);
+            for (String line : lines) {
+                toast(line, true);
+            }
+            lines.clear();
+            if (stats.takeAllFinished()) {
                 if (!startButton.getText().toString().equals("START")){
                     results.append("FINISHED\n");
                     toast("FINISHED CRAWLING", false);
                 }
                 startButton.setText("START");
-            } else {
-                if (arg1.getStringExtra("lineKey").startsWith("DOMAIN: ")){
-                    results.setText("");
-                    pages.setText("0");
-                    internalPages.setText("0");
-                    urlData.setText(arg1.getStringExtra("lineKey").split("DOMAIN: ")[1]);
-                }
-                results.append(arg1.getStringExtra("lineKey") + "\n");
             }
+            handler.postDelayed(this, STATS_INTERVAL);
         }
+    };
+
+    private static void setCount(TextView view, long count) {
+        String s = String.valueOf(count);
+        if (!view.getText().toString().equals(s)) view.setText(s);
     }
 
 }
\ No newline at end of file
@@ -12,7 +12,7 @@ import android.widget.EditText;
 
 public class Options extends AppCompatActivity {
 
-    private EditText uaData;
+    private EditText uaData, workersData, hostDelayData, hostConnectionsData, activeHostsData;
     private static String ua = "S.C.(https://niggasin.space/user/95)";
 
     @Override
@@ -21,6 +21,14 @@ public class Options extends AppCompatActivity {
         overridePendingTransition(R.anim.abc_fade_in, R.anim.abc_fade_out);
         setContentView(R.layout.activity_options);
         uaData = (EditText) findViewById(R.id.ua);
+        workersData = (EditText) findViewById(R.id.workers);
+        workersData.setText(String.valueOf(WebCrawler.getWorkers()));
+        hostDelayData = (EditText) findViewById(R.id.hostDelay);
+        hostDelayData.setText(String.valueOf(WebCrawler.getHostDelay()));
+        hostConnectionsData = (EditText) findViewById(R.id.hostConnections);
+        hostConnectionsData.setText(String.valueOf(WebCrawler.getHostConnections()));
+        activeHostsData = (EditText) findViewById(R.id.activeHosts);
+        activeHostsData.setText(String.valueOf(WebCrawler.getActiveHosts()));
         Button linkWatchListButton = (Button) findViewById(R.id.linkWatchList);
         linkWatchListButton.setOnClickListener(new View.OnClickListener(){
             public void onClick(View v){
@@ -49,6 +57,14 @@ public class Options extends AppCompatActivity {
         exitButton.setOnClickListener(new View.OnClickListener(){
             public void onClick(View v){
                 ua = uaData.getText().toString();
+                try {
+                    WebCrawler.setWorkers(Integer.parseInt(workersData.getText().toString().trim()));
+                    WebCrawler.setHostDelay(Long.parseLong(hostDelayData.getText().toString().trim()));
+                    WebCrawler.setHostConnections(Integer.parseInt(hostConnectionsData.getText().toString().trim()));
+                    WebCrawler.setActiveHosts(Integer.parseInt(activeHostsData.getText().toString().trim()));
+                } catch (NumberFormatException e) {
+                    MainActivity.toast("INVALID NUMBER", false);
+                }
                 finish();
             }
         });
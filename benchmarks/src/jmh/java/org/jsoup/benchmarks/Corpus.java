@@ -0,0 +1,27 @@
+package org.jsoup.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+public class Corpus {
+
+    public static final String BASE_URI = "https://www.example.org/";
+
+    public static String load(String page) throws IOException {
+        InputStream in = Corpus.class.getResourceAsStream("/corpus/" + page + ".html");
+        if (in == null) throw new IOException("Missing corpus page " + page);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toString("UTF-8");
+        } finally {
+            in.close();
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.jsoup.benchmarks;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Selector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsoupBenchmark {
+
+    @Param({"small", "medium", "large"})
+    public String page;
+
+    private String html;
+    private Document document;
+
+    @Setup
+    public void setup() throws IOException {
+        html = Corpus.load(page);
+        document = Jsoup.parse(html, Corpus.BASE_URI);
+    }
+
+    @Benchmark
+    public Document parse() {
+        return Jsoup.parse(html, Corpus.BASE_URI);
+    }
+
+    @Benchmark
+    public Elements selectLinks() {
+        return Selector.select("a[href]", document);
+    }
+
+}
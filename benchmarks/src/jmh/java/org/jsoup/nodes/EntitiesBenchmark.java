@@ -0,0 +1,52 @@
+package org.jsoup.nodes;
+
+import org.jsoup.benchmarks.Corpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntitiesBenchmark {
+
+    @Param({"small", "medium", "large"})
+    public String page;
+
+    @Param({"xhtml", "base", "extended"})
+    public String escapeMode;
+
+    private String html, text;
+    private Document.OutputSettings out;
+
+    @Setup
+    public void setup() throws IOException {
+        html = Corpus.load(page);
+        text = Entities.unescape(html);
+        out = new Document.OutputSettings().escapeMode(Entities.EscapeMode.valueOf(escapeMode));
+    }
+
+    @Benchmark
+    public String escape() {
+        return Entities.escape(text, out);
+    }
+
+    @Benchmark
+    public String unescape() {
+        return Entities.unescape(html);
+    }
+
+}
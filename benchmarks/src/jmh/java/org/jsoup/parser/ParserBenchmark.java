@@ -0,0 +1,121 @@
+package org.jsoup.parser;
+
+import org.jsoup.benchmarks.Corpus;
+import org.jsoup.nodes.Attributes;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({"small", "medium", "large"})
+    public String page;
+
+    private String html;
+    private char[] chars;
+    private final HtmlTreeBuilder reused = new HtmlTreeBuilder();
+    private final EventTreeBuilder events = new EventTreeBuilder();
+
+    @Setup
+    public void setup() throws IOException {
+        html = Corpus.load(page);
+        chars = html.toCharArray();
+    }
+
+    @Benchmark
+    public Document treeBuilder() {
+        return new HtmlTreeBuilder().parse(html, Corpus.BASE_URI, ParseErrorList.noTracking(), ParseSettings.htmlDefault);
+    }
+
+    @Benchmark
+    public Document treeBuilderWindow() {
+        return new HtmlTreeBuilder().parse(CharBuffer.wrap(chars), Corpus.BASE_URI, ParseErrorList.noTracking(), ParseSettings.htmlDefault);
+    }
+
+    @Benchmark
+    public Document treeBuilderReused() {
+        return reused.parse(html, Corpus.BASE_URI, ParseErrorList.noTracking(), ParseSettings.htmlDefault);
+    }
+
+    @Benchmark
+    public int events() {
+        EventCounter counter = new EventCounter();
+        events.parse(html, Corpus.BASE_URI, counter);
+        return counter.events;
+    }
+
+    @Benchmark
+    public int tokeniser() {
+        Tokeniser tokeniser = new Tokeniser(new CharacterReader(html), ParseErrorList.noTracking());
+        int tokens = 0;
+        while (true) {
+            Token token = tokeniser.read();
+            tokens++;
+            if (token.type == Token.TokenType.EOF) break;
+            token.reset();
+        }
+        return tokens;
+    }
+
+    @Benchmark
+    public int characterReader() {
+        CharacterReader reader = new CharacterReader(html);
+        int length = 0;
+        while (!reader.isEmpty()) {
+            length += reader.consumeData().length();
+            if (!reader.isEmpty()) {
+                reader.advance();
+                length += reader.consumeTagName().length();
+            }
+        }
+        return length;
+    }
+
+    private static class EventCounter implements ParseHandler {
+        int events;
+
+        @Override
+        public void doctype(String name, String publicId, String systemId) {
+            events++;
+        }
+
+        @Override
+        public void startTag(String name, Attributes attributes) {
+            events++;
+        }
+
+        @Override
+        public void endTag(String name) {
+            events++;
+        }
+
+        @Override
+        public void text(String text) {
+            events++;
+        }
+
+        @Override
+        public void comment(String data) {
+            events++;
+        }
+    }
+
+}
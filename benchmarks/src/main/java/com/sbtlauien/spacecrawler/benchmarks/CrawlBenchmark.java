@@ -0,0 +1,190 @@
+package com.sbtlauien.spacecrawler.benchmarks;
+
+import com.sbtlauien.spacecrawler.CrawlStats;
+import com.sbtlauien.spacecrawler.ProgressSink;
+import com.sbtlauien.spacecrawler.WebCrawler;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class CrawlBenchmark {
+
+    private static final long HEAP_SAMPLE_INTERVAL = 10;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int pages = 2000, fanOut = 10, latency = 5, pageSize = 20000, workers = 8, connections = 8, warmups = 1, runs = 3;
+        long timeout = 300, seed = 42;
+        double errorRate = 0.01;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "-pages": pages = Integer.parseInt(args[++i]); break;
+                    case "-fanout": fanOut = Integer.parseInt(args[++i]); break;
+                    case "-latency": latency = Integer.parseInt(args[++i]); break;
+                    case "-errors": errorRate = Double.parseDouble(args[++i]); break;
+                    case "-size": pageSize = Integer.parseInt(args[++i]); break;
+                    case "-workers": workers = Integer.parseInt(args[++i]); break;
+                    case "-connections": connections = Integer.parseInt(args[++i]); break;
+                    case "-warmups": warmups = Integer.parseInt(args[++i]); break;
+                    case "-runs": runs = Integer.parseInt(args[++i]); break;
+                    case "-timeout": timeout = Long.parseLong(args[++i]); break;
+                    case "-seed": seed = Long.parseLong(args[++i]); break;
+                    default:
+                        usage();
+                        return;
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            usage();
+            return;
+        }
+        SyntheticSite site = new SyntheticSite(pages, fanOut, latency, errorRate, pageSize, seed);
+        site.start();
+        System.out.println(String.format(Locale.ENGLISH, "site: %d pages, fan-out %d, latency %d ms, error rate %.3f, page size %d bytes",
+                pages, fanOut, latency, errorRate, pageSize));
+        System.out.println(String.format(Locale.ENGLISH, "crawler: %d workers, %d connections per host", workers, connections));
+        WebCrawler.setWorkers(workers);
+        WebCrawler.setHostConnections(connections);
+        WebCrawler.setHostDelay(0);
+        try {
+            for (int i = 0; i < warmups + runs; i++) {
+                Result result = run(site.url(), timeout);
+                System.out.println((i < warmups ? "warmup " + (i + 1) : "run " + (i - warmups + 1)) + ": " + result);
+            }
+        } finally {
+            site.stop();
+        }
+    }
+
+    private static Result run(String url, long timeout) throws IOException, InterruptedException {
+        File home = Files.createTempDirectory("spacecrawler-bench").toFile();
+        WebCrawler.setHome(home);
+        WebCrawler.clearAll();
+        Sink sink = new Sink();
+        WebCrawler.setProgressSink(sink);
+        System.gc();
+        HeapSampler heap = new HeapSampler();
+        long gcCount = gcCount(), gcTime = gcTime();
+        heap.start();
+        long start = System.nanoTime();
+        new WebCrawler(url, "SpaceCrawler-Benchmark");
+        boolean complete = sink.finished.await(timeout, TimeUnit.SECONDS);
+        if (!complete) {
+            WebCrawler.setAtomic(true);
+            sink.finished.await();
+        }
+        Result result = new Result();
+        result.seconds = (System.nanoTime() - start) / 1e9;
+        result.complete = complete;
+        result.gcCount = gcCount() - gcCount;
+        result.gcTime = gcTime() - gcTime;
+        result.peakHeap = heap.finish();
+        CrawlStats stats = WebCrawler.getStats();
+        result.pages = stats.pages().get();
+        result.errors = stats.errors().get();
+        result.p50 = stats.fetchPercentile(50);
+        result.p99 = stats.fetchPercentile(99);
+        WebCrawler.closeResults();
+        WebCrawler.clearAll();
+        delete(home);
+        return result;
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return time;
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    private static void usage() {
+        System.err.println("usage: CrawlBenchmark [-pages n] [-fanout n] [-latency ms] [-errors rate] [-size bytes] [-workers n] [-connections n]");
+        System.err.println("                      [-warmups n] [-runs n] [-timeout seconds] [-seed n]");
+    }
+
+    private static class Result {
+        private int pages, errors;
+        private long p50, p99, peakHeap, gcCount, gcTime;
+        private double seconds;
+        private boolean complete;
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ENGLISH, "%d pages (%d errors) in %.2f s, %.1f pages/sec, fetch p50 %.2f ms, p99 %.2f ms, peak heap %.1f MB, gc %d ms in %d collections%s",
+                    pages, errors, seconds, pages / seconds, p50 / 1000.0, p99 / 1000.0, peakHeap / 1048576.0, gcTime, gcCount, complete ? "" : " (timed out)");
+        }
+    }
+
+    private static class Sink implements ProgressSink {
+        private final CountDownLatch finished = new CountDownLatch(1);
+
+        @Override
+        public void log(String line) {
+        }
+
+        @Override
+        public void problem(String message) {
+            System.err.println("ERROR: " + message);
+        }
+
+        @Override
+        public void allFinished() {
+            finished.countDown();
+        }
+    }
+
+    private static class HeapSampler extends Thread {
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private volatile boolean running = true;
+        private long peak;
+
+        HeapSampler() {
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                peak = Math.max(peak, memory.getHeapMemoryUsage().getUsed());
+                try {
+                    Thread.sleep(HEAP_SAMPLE_INTERVAL);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        long finish() throws InterruptedException {
+            running = false;
+            interrupt();
+            join();
+            return Math.max(peak, memory.getHeapMemoryUsage().getUsed());
+        }
+    }
+
+}
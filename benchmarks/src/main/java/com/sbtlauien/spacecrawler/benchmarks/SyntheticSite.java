@@ -0,0 +1,136 @@
+package com.sbtlauien.spacecrawler.benchmarks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.Charset;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class SyntheticSite implements HttpHandler {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int VOCABULARY = 4096;
+    private final int pages, fanOut, latency, pageSize;
+    private final double errorRate;
+    private final long seed;
+    private final String[] words = new String[VOCABULARY];
+    private HttpServer server;
+    private ExecutorService executor;
+
+    static {
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    public SyntheticSite(int pages, int fanOut, int latency, double errorRate, int pageSize, long seed) {
+        this.pages = Math.max(1, pages);
+        this.fanOut = Math.max(1, fanOut);
+        this.latency = Math.max(0, latency);
+        this.errorRate = errorRate;
+        this.pageSize = Math.max(0, pageSize);
+        this.seed = seed;
+        Random random = new Random(seed);
+        for (int i = 0; i < words.length; i++) {
+            char[] word = new char[2 + random.nextInt(8)];
+            for (int j = 0; j < word.length; j++) {
+                word[j] = (char) ('a' + random.nextInt(26));
+            }
+            words[i] = new String(word);
+        }
+    }
+
+    public int start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 256);
+        server.createContext("/", this);
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.start();
+        return server.getAddress().getPort();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            int page = page(exchange.getRequestURI().getPath());
+            if (latency > 0) Thread.sleep(latency);
+            if (page < 0) {
+                send(exchange, 404, "<html><body>Not found</body></html>");
+            } else if (page > 0 && (mix(page) >>> 11) * 0x1.0p-53 < errorRate) {
+                send(exchange, 500, "<html><body>Server error</body></html>");
+            } else {
+                send(exchange, 200, render(page));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private int page(String path) {
+        if (path.equals("/")) return 0;
+        if (!path.startsWith("/p/")) return -1;
+        try {
+            int page = Integer.parseInt(path.substring(3));
+            return page < pages ? page : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private String render(int page) {
+        Random random = new Random(mix(page));
+        StringBuilder sb = new StringBuilder(pageSize + fanOut * 48 + 356);
+        sb.append("<!DOCTYPE html><html><head><title>Page ").append(page).append("</title></head><body><h1>Page ").append(page).append("</h1>\n<ul>");
+        if (page + 1 < pages) link(sb, page + 1);
+        for (int i = 1; i < fanOut; i++) {
+            link(sb, random.nextInt(pages));
+        }
+        sb.append("</ul>\n");
+        int end = sb.length() + pageSize;
+        while (sb.length() < end) {
+            sb.append("<p>");
+            for (int i = 0; i < 40; i++) {
+                double zipf = random.nextDouble();
+                sb.append(words[(int) (zipf * zipf * zipf * words.length)]).append(' ');
+            }
+            sb.append("&amp; more.</p>\n");
+        }
+        sb.append("</body></html>");
+        return sb.toString();
+    }
+
+    private long mix(int page) {
+        long x = seed * 0x9E3779B97F4A7C15L + page;
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+
+    private static void link(StringBuilder sb, int page) {
+        sb.append("<li><a href=\"/p/").append(page).append("\">page ").append(page).append("</a></li>");
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        OutputStream out = exchange.getResponseBody();
+        out.write(bytes);
+        out.close();
+    }
+
+}
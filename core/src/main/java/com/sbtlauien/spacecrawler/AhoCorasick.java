@@ -0,0 +1,157 @@
+package com.sbtlauien.spacecrawler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+public class AhoCorasick {
+
+    private final String[] patterns;
+    private final int[] edgeStart, fail, output, dictLink;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+
+    public AhoCorasick(List<String> terms) {
+        ArrayList<String> unique = new ArrayList<>();
+        HashMap<Long, Integer> children = new HashMap<>();
+        ArrayList<Integer> nodeOutput = new ArrayList<>();
+        nodeOutput.add(-1);
+        for (String term : terms) {
+            if (term == null || term.length() == 0) continue;
+            int node = 0;
+            for (int i = 0; i < term.length(); i++) {
+                long key = ((long) node << 16) | term.charAt(i);
+                Integer child = children.get(key);
+                if (child == null) {
+                    child = nodeOutput.size();
+                    children.put(key, child);
+                    nodeOutput.add(-1);
+                }
+                node = child;
+            }
+            if (nodeOutput.get(node) == -1) {
+                nodeOutput.set(node, unique.size());
+                unique.add(term);
+            }
+        }
+        patterns = unique.toArray(new String[unique.size()]);
+        int nodes = nodeOutput.size();
+        output = new int[nodes];
+        for (int i = 0; i < nodes; i++) output[i] = nodeOutput.get(i);
+        long[] keys = new long[children.size()];
+        int k = 0;
+        for (Long key : children.keySet()) keys[k++] = key;
+        Arrays.sort(keys);
+        edgeStart = new int[nodes + 1];
+        edgeChars = new char[keys.length];
+        edgeTargets = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            edgeChars[i] = (char) (keys[i] & 0xFFFF);
+            edgeTargets[i] = children.get(keys[i]);
+            edgeStart[(int) (keys[i] >>> 16) + 1]++;
+        }
+        for (int i = 0; i < nodes; i++) edgeStart[i + 1] += edgeStart[i];
+        fail = new int[nodes];
+        dictLink = new int[nodes];
+        Arrays.fill(dictLink, -1);
+        int[] queue = new int[nodes];
+        int head = 0, tail = 0;
+        for (int e = edgeStart[0]; e < edgeStart[1]; e++) queue[tail++] = edgeTargets[e];
+        while (head < tail) {
+            int node = queue[head++];
+            for (int e = edgeStart[node]; e < edgeStart[node + 1]; e++) {
+                int child = edgeTargets[e];
+                int f = fail[node];
+                int next;
+                while ((next = edge(f, edgeChars[e])) == -1 && f != 0) f = fail[f];
+                fail[child] = next == -1 || next == child ? 0 : next;
+                dictLink[child] = output[fail[child]] != -1 ? fail[child] : dictLink[fail[child]];
+                queue[tail++] = child;
+            }
+        }
+    }
+
+    public int size() {
+        return patterns.length;
+    }
+
+    public String pattern(int id) {
+        return patterns[id];
+    }
+
+    public boolean containsAny(CharSequence text) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, text.charAt(i));
+            if (output[state] != -1 || dictLink[state] != -1) return true;
+        }
+        return false;
+    }
+
+    public List<Match> findAll(CharSequence text) {
+        final List<Match> matches = new ArrayList<>();
+        scan(text, new MatchListener() {
+            public boolean onMatch(int pattern, int start) {
+                matches.add(new Match(pattern, start));
+                return true;
+            }
+        });
+        return matches;
+    }
+
+    public void scan(CharSequence text, MatchListener listener) {
+        scan(text, 0, 0, listener);
+    }
+
+    public int scan(CharSequence text, int start, int state, MatchListener listener) {
+        for (int i = start; i < text.length(); i++) {
+            state = step(state, text.charAt(i));
+            for (int n = output[state] != -1 ? state : dictLink[state]; n != -1; n = dictLink[n]) {
+                int pattern = output[n];
+                if (!listener.onMatch(pattern, i + 1 - patterns[pattern].length())) return -1;
+            }
+        }
+        return state;
+    }
+
+    private int step(int state, char c) {
+        int next;
+        while ((next = edge(state, c)) == -1 && state != 0) state = fail[state];
+        return next == -1 ? 0 : next;
+    }
+
+    private int edge(int node, char c) {
+        int lo = edgeStart[node], hi = edgeStart[node + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char m = edgeChars[mid];
+            if (m < c) lo = mid + 1;
+            else if (m > c) hi = mid - 1;
+            else return edgeTargets[mid];
+        }
+        return -1;
+    }
+
+    public interface MatchListener {
+        boolean onMatch(int pattern, int start);
+    }
+
+    public static class Match {
+        private final int pattern, start;
+
+        Match(int pattern, int start) {
+            this.pattern = pattern;
+            this.start = start;
+        }
+
+        public int pattern() {
+            return pattern;
+        }
+
+        public int start() {
+            return start;
+        }
+    }
+
+}
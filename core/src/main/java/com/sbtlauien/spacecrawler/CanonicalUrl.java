@@ -0,0 +1,166 @@
+package com.sbtlauien.spacecrawler;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Locale;
+
+public final class CanonicalUrl {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    private final String url, key;
+    private final int authorityEnd;
+    private final long hash;
+
+    private CanonicalUrl(String url, String key, int authorityEnd) {
+        this.url = url;
+        this.key = key;
+        this.authorityEnd = authorityEnd;
+        this.hash = FingerprintSet.fingerprint(key);
+    }
+
+    public static CanonicalUrl parse(String url) {
+        if (url == null) return null;
+        url = url.trim();
+        int schemeEnd = url.indexOf("://");
+        if (schemeEnd <= 0) return null;
+        String scheme = url.substring(0, schemeEnd).toLowerCase(Locale.ENGLISH);
+        int authorityStart = schemeEnd + 3;
+        int authorityEnd = authorityStart;
+        while (authorityEnd < url.length() && "/?#".indexOf(url.charAt(authorityEnd)) == -1) authorityEnd++;
+        int fragment = url.indexOf('#', authorityEnd);
+        int end = fragment == -1 ? url.length() : fragment;
+        int query = url.indexOf('?', authorityEnd);
+        if (query > end) query = -1;
+        StringBuilder out = new StringBuilder(url.length());
+        out.append(scheme).append("://");
+        if (!appendAuthority(out, scheme, url.substring(authorityStart, authorityEnd))) return null;
+        int canonicalAuthorityEnd = out.length();
+        appendEncoded(out, url, authorityEnd, query == -1 ? end : query);
+        int slash = out.length() > canonicalAuthorityEnd && out.charAt(out.length() - 1) == '/' ? out.length() - 1 : -1;
+        if (query != -1) appendQuery(out, url, query + 1, end);
+        String canonical = out.toString();
+        if (slash == -1) return new CanonicalUrl(canonical, canonical, canonicalAuthorityEnd);
+        String key = canonical.substring(0, slash) + canonical.substring(slash + 1);
+        return new CanonicalUrl(slash == canonicalAuthorityEnd ? key : canonical, key, canonicalAuthorityEnd);
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public String authority() {
+        return url.substring(0, authorityEnd);
+    }
+
+    public int authorityEnd() {
+        return authorityEnd;
+    }
+
+    public long hash() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof CanonicalUrl && hash == ((CanonicalUrl) o).hash && key.equals(((CanonicalUrl) o).key));
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return url;
+    }
+
+    private static boolean appendAuthority(StringBuilder out, String scheme, String authority) {
+        int at = authority.lastIndexOf('@');
+        if (at != -1) out.append(authority, 0, at + 1);
+        String hostPort = authority.substring(at + 1).toLowerCase(Locale.ENGLISH);
+        int colon = hostPort.lastIndexOf(':');
+        if (colon < hostPort.lastIndexOf(']')) colon = -1;
+        String host = colon == -1 ? hostPort : hostPort.substring(0, colon);
+        String port = colon == -1 ? "" : hostPort.substring(colon + 1);
+        if (host.startsWith("www.")) host = host.substring(4);
+        if (host.length() == 0) return false;
+        out.append(host);
+        if (port.length() > 0 && !(scheme.equals("http") && port.equals("80")) && !(scheme.equals("https") && port.equals("443"))) {
+            out.append(':').append(port);
+        }
+        return true;
+    }
+
+    private static void appendQuery(StringBuilder out, String url, int start, int end) {
+        ArrayList<String> params = new ArrayList<>();
+        StringBuilder param = new StringBuilder();
+        while (start <= end) {
+            int amp = url.indexOf('&', start);
+            if (amp == -1 || amp > end) amp = end;
+            if (amp > start) {
+                param.setLength(0);
+                appendEncoded(param, url, start, amp);
+                params.add(param.toString());
+            }
+            start = amp + 1;
+        }
+        if (params.isEmpty()) return;
+        Collections.sort(params);
+        out.append('?');
+        for (int i = 0; i < params.size(); i++) {
+            if (i > 0) out.append('&');
+            out.append(params.get(i));
+        }
+    }
+
+    static String encode(String s) {
+        StringBuilder out = new StringBuilder(s.length());
+        appendEncoded(out, s, 0, s.length());
+        return out.toString();
+    }
+
+    private static void appendEncoded(StringBuilder out, String s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c == '%' && i + 2 < end && hex(s.charAt(i + 1)) != -1 && hex(s.charAt(i + 2)) != -1) {
+                int decoded = hex(s.charAt(i + 1)) << 4 | hex(s.charAt(i + 2));
+                if (unreserved(decoded)) {
+                    out.append((char) decoded);
+                } else {
+                    out.append('%').append(HEX[decoded >> 4]).append(HEX[decoded & 0xF]);
+                }
+                i += 2;
+            } else if (c <= ' ' || c >= 0x7F || "\"<>\\^`{|}".indexOf(c) != -1) {
+                int codePoint = Character.codePointAt(s, i);
+                if (Character.isSupplementaryCodePoint(codePoint)) i++;
+                try {
+                    for (byte b : new String(Character.toChars(codePoint)).getBytes("UTF-8")) {
+                        out.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+                    }
+                } catch (UnsupportedEncodingException e) {
+                    out.append(c);
+                }
+            } else {
+                out.append(c);
+            }
+        }
+    }
+
+    private static boolean unreserved(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+
+    private static int hex(char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+        return -1;
+    }
+
+}
@@ -0,0 +1,299 @@
+package com.sbtlauien.spacecrawler;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Properties;
+
+public class CrawlState {
+
+    private static final String META = "crawl.properties", SEEN = "seen.log", FINISHED = "finished.log";
+    private final File dir;
+    private final Properties meta = new Properties();
+    private final FingerprintSet seen = new FingerprintSet(65536);
+    private final ArrayList<String> finished = new ArrayList<>();
+    private final ArrayList<HostQueue> hosts = new ArrayList<>();
+    private final HashMap<String, HostQueue> hostsByAuthority = new HashMap<>();
+    private ExternalQueue external;
+    private DiskQueue finishedLog;
+    private FileOutputStream seenOut;
+    private DataOutputStream seenLog;
+    private int generation, nextHostId;
+    private long seenLength;
+
+    public CrawlState(File dir) {
+        this.dir = dir;
+    }
+
+    public boolean open(String rootUrl) throws IOException {
+        close();
+        if (!dir.exists() && !dir.mkdirs()) throw new IOException("Unable to create " + dir.getPath());
+        meta.clear();
+        File metaFile = new File(dir, META);
+        if (metaFile.exists()) {
+            FileInputStream in = new FileInputStream(metaFile);
+            try {
+                meta.load(in);
+            } finally {
+                in.close();
+            }
+        }
+        boolean resume = rootUrl.equals(meta.getProperty("root")) && !"true".equals(meta.getProperty("complete"));
+        if (!resume) {
+            deleteFiles();
+            meta.clear();
+            meta.setProperty("root", rootUrl);
+        }
+        generation = getInt("generation");
+        nextHostId = getInt("nextHostId");
+        external = new ExternalQueue(queueFile("external", generation), getLong("externalLength", -1));
+        for (String id : meta.getProperty("hosts", "").split(",")) {
+            if (id.length() == 0) continue;
+            String key = "host." + id + ".";
+            DiskQueue queue = new DiskQueue(queueFile("host", Integer.parseInt(id)), getLong(key + "head"), getLong(key + "offset"), getLong(key + "length", -1));
+            putHost(new HostQueue(Integer.parseInt(id), meta.getProperty(key + "authority"), meta.getProperty(key + "prefix"), queue));
+        }
+        finishedLog = new DiskQueue(new File(dir, FINISHED));
+        finished.clear();
+        finished.addAll(finishedLog.list(Integer.MAX_VALUE));
+        loadSeen(new File(dir, SEEN));
+        seenOut = new FileOutputStream(new File(dir, SEEN), true);
+        seenLog = new DataOutputStream(new BufferedOutputStream(seenOut, 8192));
+        return resume;
+    }
+
+    public List<HostQueue> hosts() {
+        return hosts;
+    }
+
+    public HostQueue host(String url) {
+        HostQueue host = hostsByAuthority.get(HostQueue.authority(url));
+        return host != null && host.accepts(url) ? host : null;
+    }
+
+    public HostQueue addHost(String prefix) throws IOException {
+        int id = nextHostId++;
+        File file = queueFile("host", id);
+        file.delete();
+        HostQueue host = new HostQueue(id, HostQueue.authority(prefix), prefix, new DiskQueue(file));
+        putHost(host);
+        setProperty("nextHostId", nextHostId);
+        setProperty("host." + id + ".authority", host.authority());
+        setProperty("host." + id + ".prefix", host.prefix());
+        return host;
+    }
+
+    public void removeHost(HostQueue host) throws IOException {
+        hosts.remove(host);
+        hostsByAuthority.remove(host.authority());
+        String key = "host." + host.id() + ".";
+        for (String suffix : new String[]{"authority", "prefix", "head", "offset", "length"}) {
+            meta.remove(key + suffix);
+        }
+        checkpoint();
+        host.queue().delete();
+    }
+
+    public long queued() {
+        long queued = 0;
+        for (HostQueue host : hosts) {
+            queued += host.queue().size();
+        }
+        return queued;
+    }
+
+    public ExternalQueue external() {
+        return external;
+    }
+
+    public ArrayList<String> finished() {
+        return finished;
+    }
+
+    public boolean markSeen(long fingerprint) throws IOException {
+        if (!seen.add(fingerprint)) return false;
+        seenLog.writeLong(fingerprint);
+        seenLength += 8;
+        return true;
+    }
+
+    public void finishDomain(String domain) throws IOException {
+        finished.add(domain);
+        finishedLog.add(domain);
+    }
+
+    public List<HostQueue> refill(int slots, UrlFilter filter) throws IOException {
+        ArrayList<String> promoted = new ArrayList<>(), dropped = new ArrayList<>();
+        for (String authority : external.authorities()) {
+            if (promoted.size() >= slots) break;
+            if ((filter.evaluate(authority) & UrlFilter.FINISHED) != 0) {
+                dropped.add(authority);
+            } else if (!hostsByAuthority.containsKey(authority)) {
+                promoted.add(authority);
+            }
+        }
+        for (String authority : dropped) {
+            external.take(authority);
+        }
+        ArrayList<HostQueue> added = new ArrayList<>();
+        for (String authority : promoted) {
+            HostQueue host = addHost(authority);
+            for (String url : external.take(authority)) {
+                host.queue().add(url);
+            }
+            added.add(host);
+        }
+        if (external.wasteful()) {
+            compact();
+        } else {
+            checkpoint();
+        }
+        return added;
+    }
+
+    public String getProperty(String key) {
+        return meta.getProperty(key);
+    }
+
+    public int getInt(String key) {
+        return (int) getLong(key);
+    }
+
+    public void setProperty(String key, Object value) {
+        meta.setProperty(key, String.valueOf(value));
+    }
+
+    public void checkpoint() throws IOException {
+        if (external == null) return;
+        StringBuilder ids = new StringBuilder();
+        for (HostQueue host : hosts) {
+            host.queue().sync();
+            setProperty("host." + host.id() + ".head", host.queue().checkpointIndex());
+            setProperty("host." + host.id() + ".offset", host.queue().checkpointOffset());
+            setProperty("host." + host.id() + ".length", host.queue().length());
+            if (ids.length() > 0) ids.append(',');
+            ids.append(host.id());
+        }
+        setProperty("hosts", ids);
+        external.sync();
+        setProperty("externalLength", external.length());
+        finishedLog.sync();
+        seenLog.flush();
+        seenOut.getFD().sync();
+        setProperty("seenLength", seenLength);
+        File tmp = new File(dir, META + ".tmp");
+        FileOutputStream out = new FileOutputStream(tmp);
+        try {
+            meta.store(out, null);
+            out.getFD().sync();
+        } finally {
+            out.close();
+        }
+        if (!tmp.renameTo(new File(dir, META))) throw new IOException("Unable to write " + META);
+    }
+
+    public boolean isOpen() {
+        return external != null;
+    }
+
+    public void close() throws IOException {
+        if (external == null) return;
+        for (HostQueue host : hosts) {
+            host.queue().close();
+        }
+        hosts.clear();
+        hostsByAuthority.clear();
+        external.close();
+        finishedLog.close();
+        seenLog.close();
+        external = null;
+    }
+
+    public void clear() throws IOException {
+        close();
+        deleteFiles();
+        meta.clear();
+        seen.clear();
+        finished.clear();
+    }
+
+    private void putHost(HostQueue host) {
+        hosts.add(host);
+        hostsByAuthority.put(host.authority(), host);
+    }
+
+    private long getLong(String key) {
+        return getLong(key, 0);
+    }
+
+    private long getLong(String key, long fallback) {
+        String value = meta.getProperty(key);
+        if (value == null) return fallback;
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private void compact() throws IOException {
+        File nextFile = queueFile("external", generation + 1);
+        nextFile.delete();
+        ExternalQueue nextExternal = new ExternalQueue(nextFile);
+        external.copyTo(nextExternal);
+        nextExternal.sync();
+        ExternalQueue oldExternal = external;
+        external = nextExternal;
+        generation++;
+        setProperty("generation", generation);
+        checkpoint();
+        oldExternal.delete();
+    }
+
+    private File queueFile(String name, int id) {
+        return new File(dir, name + "-" + id + ".log");
+    }
+
+    private void loadSeen(File file) throws IOException {
+        seen.clear();
+        seenLength = 0;
+        if (!file.exists()) return;
+        long complete = file.length() - file.length() % 8;
+        complete = Math.min(complete, getLong("seenLength", complete));
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 8192));
+        try {
+            for (long i = 0; i < complete; i += 8) {
+                seen.add(in.readLong());
+            }
+        } finally {
+            in.close();
+        }
+        seenLength = complete;
+        if (complete < file.length()) {
+            RandomAccessFile truncate = new RandomAccessFile(file, "rw");
+            try {
+                truncate.setLength(complete);
+            } finally {
+                truncate.close();
+            }
+        }
+    }
+
+    private void deleteFiles() {
+        File[] files = dir.listFiles();
+        if (files == null) return;
+        for (File f : files) {
+            f.delete();
+        }
+    }
+
+}
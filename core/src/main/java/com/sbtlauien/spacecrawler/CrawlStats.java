@@ -0,0 +1,160 @@
+package com.sbtlauien.spacecrawler;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class CrawlStats implements ProgressSink {
+
+    private static final int MAX_LINES = 500, SUB_BUCKETS = 16;
+    private final AtomicInteger pages = new AtomicInteger(), errors = new AtomicInteger(), linkWatchList = new AtomicInteger(),
+            sourceWatchList = new AtomicInteger(), finished = new AtomicInteger(), duplicates = new AtomicInteger(),
+            nearDuplicates = new AtomicInteger(), truncated = new AtomicInteger();
+    private final AtomicLong internalPages = new AtomicLong(), externalPages = new AtomicLong();
+    private final AtomicLongArray fetchTimes = new AtomicLongArray(64 * SUB_BUCKETS);
+    private final AtomicBoolean allFinished = new AtomicBoolean();
+    private final ArrayDeque<String> lines = new ArrayDeque<>(), problems = new ArrayDeque<>();
+    private int droppedLines;
+
+    public AtomicInteger pages() {
+        return pages;
+    }
+
+    public AtomicInteger errors() {
+        return errors;
+    }
+
+    public AtomicInteger linkWatchList() {
+        return linkWatchList;
+    }
+
+    public AtomicInteger sourceWatchList() {
+        return sourceWatchList;
+    }
+
+    public AtomicInteger finished() {
+        return finished;
+    }
+
+    public AtomicInteger duplicates() {
+        return duplicates;
+    }
+
+    public AtomicInteger nearDuplicates() {
+        return nearDuplicates;
+    }
+
+    public AtomicInteger truncated() {
+        return truncated;
+    }
+
+    public AtomicLong internalPages() {
+        return internalPages;
+    }
+
+    public AtomicLong externalPages() {
+        return externalPages;
+    }
+
+    public void recordFetch(long micros) {
+        fetchTimes.incrementAndGet(bucket(Math.max(0, micros)));
+    }
+
+    public long fetches() {
+        long total = 0;
+        for (int i = 0; i < fetchTimes.length(); i++) {
+            total += fetchTimes.get(i);
+        }
+        return total;
+    }
+
+    public long fetchPercentile(double percentile) {
+        long target = (long) Math.ceil(fetches() * percentile / 100), seen = 0;
+        if (target == 0) return 0;
+        for (int i = 0; i < fetchTimes.length(); i++) {
+            seen += fetchTimes.get(i);
+            if (seen >= target) return bucketValue(i);
+        }
+        return bucketValue(fetchTimes.length() - 1);
+    }
+
+    private static int bucket(long micros) {
+        if (micros < SUB_BUCKETS) return (int) micros;
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - 4;
+        return (shift + 1) * SUB_BUCKETS + (int) ((micros >>> shift) - SUB_BUCKETS);
+    }
+
+    private static long bucketValue(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int shift = bucket / SUB_BUCKETS - 1;
+        return ((long) (bucket % SUB_BUCKETS + SUB_BUCKETS) << shift) + ((1L << shift) >> 1);
+    }
+
+    @Override
+    public void log(String line) {
+        synchronized (lines) {
+            if (lines.size() >= MAX_LINES) {
+                lines.pollFirst();
+                droppedLines++;
+            }
+            lines.addLast(line);
+        }
+    }
+
+    public int drainLines(List<String> out) {
+        synchronized (lines) {
+            out.addAll(lines);
+            lines.clear();
+            int dropped = droppedLines;
+            droppedLines = 0;
+            return dropped;
+        }
+    }
+
+    @Override
+    public void problem(String message) {
+        synchronized (problems) {
+            if (problems.size() < MAX_LINES) problems.addLast(String.valueOf(message));
+        }
+    }
+
+    public void drainProblems(List<String> out) {
+        synchronized (problems) {
+            out.addAll(problems);
+            problems.clear();
+        }
+    }
+
+    @Override
+    public void allFinished() {
+        allFinished.set(true);
+    }
+
+    public boolean takeAllFinished() {
+        return allFinished.getAndSet(false);
+    }
+
+    public void reset() {
+        pages.set(0);
+        errors.set(0);
+        linkWatchList.set(0);
+        sourceWatchList.set(0);
+        finished.set(0);
+        duplicates.set(0);
+        nearDuplicates.set(0);
+        truncated.set(0);
+        internalPages.set(0);
+        externalPages.set(0);
+        for (int i = 0; i < fetchTimes.length(); i++) {
+            fetchTimes.set(i, 0);
+        }
+        synchronized (lines) {
+            lines.clear();
+            droppedLines = 0;
+        }
+    }
+
+}
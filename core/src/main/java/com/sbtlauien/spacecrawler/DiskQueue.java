@@ -0,0 +1,199 @@
+package com.sbtlauien.spacecrawler;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.TreeMap;
+
+public class DiskQueue {
+
+    private static final int BUFFER_SIZE = 8192;
+    private final File file;
+    private final FileOutputStream fileOut;
+    private final BufferedOutputStream writer;
+    private final RandomAccessFile reader;
+    private final byte[] readBuffer = new byte[BUFFER_SIZE];
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+    private final TreeMap<Long, Long> pending = new TreeMap<>();
+    private long size, head, readOffset, length, flushedLength, bufferOffset;
+    private int bufferLength;
+
+    public DiskQueue(File file) throws IOException {
+        this(file, 0, 0);
+    }
+
+    public DiskQueue(File file, long head, long headOffset) throws IOException {
+        this(file, head, headOffset, -1);
+    }
+
+    public DiskQueue(File file, long head, long headOffset, long limit) throws IOException {
+        this.file = file;
+        if (!file.exists() && !file.createNewFile()) throw new IOException("Unable to create " + file.getPath());
+        if (limit >= 0 && file.length() > limit) truncate(file, limit);
+        size = countLines(file);
+        length = file.length();
+        flushedLength = length;
+        this.head = Math.min(head, size);
+        readOffset = Math.min(headOffset, length);
+        fileOut = new FileOutputStream(file, true);
+        writer = new BufferedOutputStream(fileOut, BUFFER_SIZE);
+        reader = new RandomAccessFile(file, "r");
+    }
+
+    public void add(String s) throws IOException {
+        byte[] bytes = (s + "\n").getBytes("UTF-8");
+        writer.write(bytes);
+        length += bytes.length;
+        size++;
+    }
+
+    public String poll() throws IOException {
+        if (head >= size) return null;
+        if (length > flushedLength) flush();
+        pending.put(head, readOffset);
+        head++;
+        return readLine();
+    }
+
+    public String peek() throws IOException {
+        if (head >= size) return null;
+        if (length > flushedLength) flush();
+        long offset = readOffset;
+        String s = readLine();
+        readOffset = offset;
+        return s;
+    }
+
+    public long head() {
+        return head;
+    }
+
+    public void commit(long index) {
+        pending.remove(index);
+    }
+
+    public long checkpointIndex() {
+        return pending.isEmpty() ? head : pending.firstKey();
+    }
+
+    public long checkpointOffset() {
+        return pending.isEmpty() ? readOffset : pending.firstEntry().getValue();
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long length() {
+        return length;
+    }
+
+    public long remaining() {
+        return size - head;
+    }
+
+    public ArrayList<String> list(int max) throws IOException {
+        flush();
+        ArrayList<String> list = new ArrayList<>();
+        InputStream in = new FileInputStream(file);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while (list.size() < max && (read = in.read(buffer)) != -1) {
+                int start = 0;
+                for (int i = 0; i < read && list.size() < max; i++) {
+                    if (buffer[i] != '\n') continue;
+                    out.write(buffer, start, i - start);
+                    list.add(out.toString("UTF-8"));
+                    out.reset();
+                    start = i + 1;
+                }
+                if (start < read) out.write(buffer, start, read - start);
+            }
+        } finally {
+            in.close();
+        }
+        return list;
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+        flushedLength = length;
+    }
+
+    public void sync() throws IOException {
+        flush();
+        fileOut.getFD().sync();
+    }
+
+    public void close() throws IOException {
+        writer.close();
+        reader.close();
+    }
+
+    public void delete() throws IOException {
+        close();
+        if (file.exists() && !file.delete()) throw new IOException("Unable to delete " + file.getPath());
+    }
+
+    private String readLine() throws IOException {
+        line.reset();
+        while (true) {
+            if (readOffset < bufferOffset || readOffset >= bufferOffset + bufferLength) {
+                reader.seek(readOffset);
+                bufferOffset = readOffset;
+                bufferLength = Math.max(0, reader.read(readBuffer));
+                if (bufferLength == 0) break;
+            }
+            int start = (int) (readOffset - bufferOffset);
+            for (int i = start; i < bufferLength; i++) {
+                if (readBuffer[i] == '\n') {
+                    line.write(readBuffer, start, i - start);
+                    readOffset = bufferOffset + i + 1;
+                    return line.toString("UTF-8");
+                }
+            }
+            line.write(readBuffer, start, bufferLength - start);
+            readOffset = bufferOffset + bufferLength;
+        }
+        return line.toString("UTF-8");
+    }
+
+    private static long countLines(File file) throws IOException {
+        long lines = 0, complete = 0, offset = 0;
+        InputStream in = new FileInputStream(file);
+        try {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] != '\n') continue;
+                    lines++;
+                    complete = offset + i + 1;
+                }
+                offset += read;
+            }
+        } finally {
+            in.close();
+        }
+        if (complete < offset) truncate(file, complete);
+        return lines;
+    }
+
+    private static void truncate(File file, long length) throws IOException {
+        RandomAccessFile truncate = new RandomAccessFile(file, "rw");
+        try {
+            truncate.setLength(length);
+        } finally {
+            truncate.close();
+        }
+    }
+
+}
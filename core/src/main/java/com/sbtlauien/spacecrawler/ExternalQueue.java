@@ -0,0 +1,250 @@
+package com.sbtlauien.spacecrawler;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+public class ExternalQueue {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final String TAKEN = "-";
+    private final File file;
+    private final FileOutputStream fileOut;
+    private final BufferedOutputStream writer;
+    private final RandomAccessFile reader;
+    private final byte[] readBuffer = new byte[BUFFER_SIZE];
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+    private final LinkedHashMap<String, Bucket> buckets = new LinkedHashMap<>();
+    private long remaining, taken, length, flushedLength;
+
+    private static class Bucket {
+        long last = -1;
+        int size;
+    }
+
+    public ExternalQueue(File file) throws IOException {
+        this(file, -1);
+    }
+
+    public ExternalQueue(File file, long limit) throws IOException {
+        this.file = file;
+        if (!file.exists() && !file.createNewFile()) throw new IOException("Unable to create " + file.getPath());
+        if (limit >= 0 && file.length() > limit) truncate(file, limit);
+        if (isPlain(file)) convert(file);
+        load();
+        flushedLength = length;
+        fileOut = new FileOutputStream(file, true);
+        writer = new BufferedOutputStream(fileOut, BUFFER_SIZE);
+        reader = new RandomAccessFile(file, "r");
+    }
+
+    public void add(String url) throws IOException {
+        String authority = HostQueue.authority(url);
+        Bucket bucket = buckets.get(authority);
+        if (bucket == null) {
+            bucket = new Bucket();
+            buckets.put(authority, bucket);
+        }
+        long offset = length;
+        write(bucket.last + "\t" + url);
+        bucket.last = offset;
+        bucket.size++;
+        remaining++;
+    }
+
+    public Iterable<String> authorities() {
+        return Collections.unmodifiableSet(buckets.keySet());
+    }
+
+    public ArrayList<String> take(String authority) throws IOException {
+        Bucket bucket = buckets.remove(authority);
+        if (bucket == null) return new ArrayList<>();
+        ArrayList<String> urls = chain(bucket, Integer.MAX_VALUE);
+        write(TAKEN + "\t" + authority);
+        remaining -= bucket.size;
+        taken += bucket.size;
+        return urls;
+    }
+
+    public long remaining() {
+        return remaining;
+    }
+
+    public long length() {
+        return length;
+    }
+
+    public boolean wasteful() {
+        return taken > BUFFER_SIZE && taken > remaining;
+    }
+
+    public void copyTo(ExternalQueue queue) throws IOException {
+        for (String authority : buckets.keySet()) {
+            for (String url : chain(buckets.get(authority), Integer.MAX_VALUE)) {
+                queue.add(url);
+            }
+        }
+    }
+
+    public ArrayList<String> list(int max) throws IOException {
+        ArrayList<String> list = new ArrayList<>();
+        for (Iterator<Bucket> it = buckets.values().iterator(); it.hasNext() && list.size() < max; ) {
+            list.addAll(chain(it.next(), max - list.size()));
+        }
+        return list;
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+        flushedLength = length;
+    }
+
+    public void sync() throws IOException {
+        flush();
+        fileOut.getFD().sync();
+    }
+
+    public void close() throws IOException {
+        writer.close();
+        reader.close();
+    }
+
+    public void delete() throws IOException {
+        close();
+        if (file.exists() && !file.delete()) throw new IOException("Unable to delete " + file.getPath());
+    }
+
+    private ArrayList<String> chain(Bucket bucket, int max) throws IOException {
+        if (length > flushedLength) flush();
+        ArrayList<String> urls = new ArrayList<>();
+        for (long offset = bucket.last; offset >= 0 && urls.size() < bucket.size; ) {
+            String record = readLine(offset);
+            int tab = record.indexOf('\t');
+            urls.add(record.substring(tab + 1));
+            offset = Long.parseLong(record.substring(0, tab));
+        }
+        Collections.reverse(urls);
+        return urls.size() > max ? new ArrayList<>(urls.subList(0, max)) : urls;
+    }
+
+    private void write(String record) throws IOException {
+        byte[] bytes = (record + "\n").getBytes("UTF-8");
+        writer.write(bytes);
+        length += bytes.length;
+    }
+
+    private void load() throws IOException {
+        long offset = 0, complete = 0;
+        InputStream in = new FileInputStream(file);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                int start = 0;
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] != '\n') continue;
+                    out.write(buffer, start, i - start);
+                    loadRecord(out.toString("UTF-8"), complete);
+                    out.reset();
+                    start = i + 1;
+                    complete = offset + i + 1;
+                }
+                if (start < read) out.write(buffer, start, read - start);
+                offset += read;
+            }
+        } finally {
+            in.close();
+        }
+        if (complete < offset) truncate(file, complete);
+        length = complete;
+    }
+
+    private void loadRecord(String record, long offset) {
+        int tab = record.indexOf('\t');
+        if (tab == -1) return;
+        String url = record.substring(tab + 1);
+        if (record.startsWith(TAKEN + "\t")) {
+            Bucket bucket = buckets.remove(url);
+            if (bucket != null) {
+                remaining -= bucket.size;
+                taken += bucket.size;
+            }
+            return;
+        }
+        String authority = HostQueue.authority(url);
+        Bucket bucket = buckets.get(authority);
+        if (bucket == null) {
+            bucket = new Bucket();
+            buckets.put(authority, bucket);
+        }
+        bucket.last = offset;
+        bucket.size++;
+        remaining++;
+    }
+
+    private String readLine(long offset) throws IOException {
+        line.reset();
+        reader.seek(offset);
+        int read;
+        while ((read = reader.read(readBuffer)) > 0) {
+            for (int i = 0; i < read; i++) {
+                if (readBuffer[i] == '\n') {
+                    line.write(readBuffer, 0, i);
+                    return line.toString("UTF-8");
+                }
+            }
+            line.write(readBuffer, 0, read);
+        }
+        return line.toString("UTF-8");
+    }
+
+    private static boolean isPlain(File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        try {
+            int first = in.read();
+            return first != -1 && first != '-' && (first < '0' || first > '9');
+        } finally {
+            in.close();
+        }
+    }
+
+    private static void convert(File file) throws IOException {
+        File tmp = new File(file.getPath() + ".tmp");
+        tmp.delete();
+        ExternalQueue queue = new ExternalQueue(tmp);
+        BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"), BUFFER_SIZE);
+        try {
+            String url;
+            while ((url = in.readLine()) != null) {
+                if (url.length() > 0) queue.add(url);
+            }
+            queue.sync();
+        } finally {
+            in.close();
+            queue.close();
+        }
+        if (!file.delete() || !tmp.renameTo(file)) throw new IOException("Unable to convert " + file.getPath());
+    }
+
+    private static void truncate(File file, long length) throws IOException {
+        RandomAccessFile truncate = new RandomAccessFile(file, "rw");
+        try {
+            truncate.setLength(length);
+        } finally {
+            truncate.close();
+        }
+    }
+
+}
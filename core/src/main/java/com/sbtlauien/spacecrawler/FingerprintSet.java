@@ -0,0 +1,92 @@
+package com.sbtlauien.spacecrawler;
+
+import java.util.Arrays;
+
+public class FingerprintSet {
+
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.6f;
+    private long[] table;
+    private int size, mask, threshold;
+
+    public FingerprintSet() {
+        this(1024);
+    }
+
+    public FingerprintSet(int expected) {
+        int capacity = 16;
+        while (capacity * LOAD_FACTOR < expected) capacity <<= 1;
+        allocate(capacity);
+    }
+
+    public static long fingerprint(String s) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    public static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h == EMPTY ? 1L : h;
+    }
+
+    public boolean add(String s) {
+        return add(fingerprint(s));
+    }
+
+    public boolean add(long fingerprint) {
+        if (fingerprint == EMPTY) fingerprint = 1L;
+        int i = (int) fingerprint & mask;
+        while (table[i] != EMPTY) {
+            if (table[i] == fingerprint) return false;
+            i = (i + 1) & mask;
+        }
+        table[i] = fingerprint;
+        if (++size > threshold) allocate(table.length << 1);
+        return true;
+    }
+
+    public boolean contains(String s) {
+        return contains(fingerprint(s));
+    }
+
+    public boolean contains(long fingerprint) {
+        if (fingerprint == EMPTY) fingerprint = 1L;
+        int i = (int) fingerprint & mask;
+        while (table[i] != EMPTY) {
+            if (table[i] == fingerprint) return true;
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(table, EMPTY);
+        size = 0;
+    }
+
+    private void allocate(int capacity) {
+        long[] old = table;
+        table = new long[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+        size = 0;
+        if (old != null) {
+            for (long f : old) {
+                if (f != EMPTY) add(f);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.sbtlauien.spacecrawler;
+
+public class HostQueue {
+
+    private final int id;
+    private final String authority, prefix;
+    private final DiskQueue queue;
+    int inFlight;
+    long nextFetch;
+    int robotsFailures;
+    RobotRules robots;
+
+    HostQueue(int id, String authority, String prefix, DiskQueue queue) {
+        this.id = id;
+        this.authority = authority;
+        this.prefix = prefix;
+        this.queue = queue;
+    }
+
+    public int id() {
+        return id;
+    }
+
+    public String authority() {
+        return authority;
+    }
+
+    public String prefix() {
+        return prefix;
+    }
+
+    public DiskQueue queue() {
+        return queue;
+    }
+
+    public boolean accepts(String url) {
+        return url.startsWith(prefix) && authority.equals(authority(url));
+    }
+
+    public boolean drained() {
+        return inFlight == 0 && queue.remaining() == 0;
+    }
+
+    public static String authority(String url) {
+        int start = url.indexOf("://");
+        start = start == -1 ? 0 : start + 3;
+        for (int i = start; i < url.length(); i++) {
+            char c = url.charAt(i);
+            if (c == '/' || c == '?' || c == '#') return url.substring(0, i);
+        }
+        return url;
+    }
+
+}
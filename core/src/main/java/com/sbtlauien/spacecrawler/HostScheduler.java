@@ -0,0 +1,55 @@
+package com.sbtlauien.spacecrawler;
+
+import java.util.List;
+
+public class HostScheduler {
+
+    private final long delay;
+    private final int connectionsPerHost;
+    private int cursor;
+
+    public HostScheduler(long delay, int connectionsPerHost) {
+        this.delay = delay;
+        this.connectionsPerHost = Math.max(1, connectionsPerHost);
+    }
+
+    public HostQueue select(List<HostQueue> hosts, long now) {
+        int n = hosts.size();
+        for (int i = 0; i < n; i++) {
+            HostQueue host = hosts.get((cursor + i) % n);
+            if (ready(host) && host.nextFetch <= now) {
+                cursor = (cursor + i + 1) % n;
+                host.inFlight++;
+                host.nextFetch = now + Math.max(delay, host.robots != null ? host.robots.crawlDelay() : 0);
+                return host;
+            }
+        }
+        return null;
+    }
+
+    public void release(HostQueue host) {
+        host.inFlight--;
+    }
+
+    public long waitTime(List<HostQueue> hosts, long now) {
+        long wait = 0;
+        for (HostQueue host : hosts) {
+            if (!ready(host)) continue;
+            long w = Math.max(1, host.nextFetch - now);
+            if (wait == 0 || w < wait) wait = w;
+        }
+        return wait;
+    }
+
+    public boolean hasWork(List<HostQueue> hosts) {
+        for (HostQueue host : hosts) {
+            if (host.queue().remaining() > 0) return true;
+        }
+        return false;
+    }
+
+    private boolean ready(HostQueue host) {
+        return host.queue().remaining() > 0 && host.inFlight < (host.robots != null ? connectionsPerHost : 1);
+    }
+
+}
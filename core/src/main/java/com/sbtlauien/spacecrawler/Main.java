@@ -0,0 +1,107 @@
+package com.sbtlauien.spacecrawler;
+
+import org.jsoup.parser.ParseLimits;
+import java.io.File;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class Main {
+
+    private static final long STATUS_INTERVAL = 5000;
+
+    public static void main(String[] args) throws InterruptedException {
+        String url = null, userAgent = WebCrawler.USER_AGENT;
+        File home = new File("SpaceCrawler");
+        boolean quiet = false, clear = false;
+        int maxChars = WebCrawler.getParseLimits().maxInput(), maxElements = WebCrawler.getParseLimits().maxElements();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "-home": home = new File(args[++i]); break;
+                    case "-workers": WebCrawler.setWorkers(Integer.parseInt(args[++i])); break;
+                    case "-delay": WebCrawler.setHostDelay(Long.parseLong(args[++i])); break;
+                    case "-connections": WebCrawler.setHostConnections(Integer.parseInt(args[++i])); break;
+                    case "-hosts": WebCrawler.setActiveHosts(Integer.parseInt(args[++i])); break;
+                    case "-external": WebCrawler.setCrawlExternal(true); break;
+                    case "-norobots": WebCrawler.setObeyRobots(false); break;
+                    case "-nositemaps": WebCrawler.setUseSitemaps(false); break;
+                    case "-refetch": WebCrawler.setConditional(false); break;
+                    case "-skipnear": WebCrawler.setSkipNearDuplicates(true); break;
+                    case "-maxchars": maxChars = Integer.parseInt(args[++i]); break;
+                    case "-maxelements": maxElements = Integer.parseInt(args[++i]); break;
+                    case "-useragent": userAgent = args[++i]; break;
+                    case "-linkwatch": WebCrawler.setUse(0, true); break;
+                    case "-whitelist": WebCrawler.setUse(1, true); break;
+                    case "-blacklist": WebCrawler.setUse(2, true); break;
+                    case "-sourcewatch": WebCrawler.setUse(3, true); break;
+                    case "-clear": clear = true; break;
+                    case "-quiet": quiet = true; break;
+                    default:
+                        if (arg.startsWith("-") || url != null) {
+                            usage();
+                            return;
+                        }
+                        url = arg;
+                }
+            }
+            WebCrawler.setParseLimits(new ParseLimits(maxChars, maxElements, 0));
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            usage();
+            return;
+        }
+        if (url == null) {
+            usage();
+            return;
+        }
+        WebCrawler.setHome(home);
+        if (clear) WebCrawler.clearAll();
+        ConsoleSink sink = new ConsoleSink(quiet);
+        WebCrawler.setProgressSink(sink);
+        new WebCrawler(url, userAgent);
+        CrawlStats stats = WebCrawler.getStats();
+        while (!sink.finished.await(STATUS_INTERVAL, TimeUnit.MILLISECONDS)) {
+            System.err.println(status(stats));
+        }
+        WebCrawler.closeResults();
+        System.err.println(status(stats));
+    }
+
+    private static String status(CrawlStats stats) {
+        return "PAGES: " + stats.pages().get() + " ERRORS: " + stats.errors().get() + " INTERNAL: " + stats.internalPages().get()
+                + " EXTERNAL: " + stats.externalPages().get() + " FINISHED: " + stats.finished().get() + " DUPLICATES: " + stats.duplicates().get()
+                + " NEAR DUPLICATES: " + stats.nearDuplicates().get() + " TRUNCATED: " + stats.truncated().get() + " LINK WATCH: " + stats.linkWatchList().get()
+                + " SOURCE WATCH: " + stats.sourceWatchList().get();
+    }
+
+    private static void usage() {
+        System.err.println("usage: spacecrawler [-home dir] [-workers n] [-delay ms] [-connections n] [-hosts n] [-external] [-norobots] [-nositemaps] [-refetch] [-skipnear]");
+        System.err.println("                    [-maxchars n] [-maxelements n]");
+        System.err.println("                    [-useragent ua] [-linkwatch] [-whitelist] [-blacklist] [-sourcewatch] [-clear] [-quiet] url");
+    }
+
+    private static class ConsoleSink implements ProgressSink {
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private final boolean quiet;
+
+        ConsoleSink(boolean quiet) {
+            this.quiet = quiet;
+        }
+
+        @Override
+        public void log(String line) {
+            if (!quiet) System.out.println(line);
+        }
+
+        @Override
+        public void problem(String message) {
+            System.err.println("ERROR: " + message);
+        }
+
+        @Override
+        public void allFinished() {
+            finished.countDown();
+        }
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.sbtlauien.spacecrawler;
+
+public interface ProgressSink {
+
+    void log(String line);
+
+    void problem(String message);
+
+    void allFinished();
+
+}
@@ -0,0 +1,9 @@
+package com.sbtlauien.spacecrawler;
+
+public interface ResultSink {
+
+    void write(String line);
+
+    void close();
+
+}
@@ -0,0 +1,98 @@
+package com.sbtlauien.spacecrawler;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class ResultWriter implements ResultSink, Runnable {
+
+    private static final int QUEUE_CAPACITY = 4096, BATCH_SIZE = 256;
+    private static final long SYNC_INTERVAL = 1000;
+    private final File file;
+    private final ArrayBlockingQueue<String> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Thread thread;
+    private volatile boolean closed;
+
+    public ResultWriter(File file) {
+        this.file = file;
+        thread = new Thread(this, "ResultWriter-" + file.getName());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void write(String line) {
+        try {
+            queue.put(line);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        thread.interrupt();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        ArrayList<String> batch = new ArrayList<>(BATCH_SIZE);
+        FileOutputStream fileOut = null;
+        BufferedWriter writer = null;
+        long lastSync = System.currentTimeMillis();
+        boolean dirty = false;
+        while (!closed || !queue.isEmpty()) {
+            try {
+                String line = queue.poll(SYNC_INTERVAL, TimeUnit.MILLISECONDS);
+                if (line != null) {
+                    batch.add(line);
+                    queue.drainTo(batch, BATCH_SIZE - 1);
+                    if (writer == null) {
+                        fileOut = new FileOutputStream(file, true);
+                        writer = new BufferedWriter(new OutputStreamWriter(fileOut, "UTF-8"), 8192);
+                    }
+                    for (String s : batch) {
+                        writer.append(s).append("\n");
+                    }
+                    writer.flush();
+                    batch.clear();
+                    dirty = true;
+                }
+                if (dirty && (System.currentTimeMillis() - lastSync >= SYNC_INTERVAL || closed)) {
+                    fileOut.getFD().sync();
+                    lastSync = System.currentTimeMillis();
+                    dirty = false;
+                }
+            } catch (InterruptedException e) {
+                closed = true;
+            } catch (IOException e) {
+                batch.clear();
+                WebCrawler.problem(e.getMessage());
+                try {
+                    if (writer != null) writer.close();
+                } catch (IOException ee) {
+                    WebCrawler.problem(ee.getMessage());
+                }
+                writer = null;
+                dirty = false;
+            }
+        }
+        try {
+            if (writer != null) writer.close();
+        } catch (IOException e) {
+            WebCrawler.problem(e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.sbtlauien.spacecrawler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+public class RobotRules {
+
+    public static final RobotRules ALLOW_ALL = new RobotRules(new ArrayList<Rule>(), 0, new ArrayList<String>()),
+            DISALLOW_ALL = new RobotRules(new ArrayList<Rule>(), 0, new ArrayList<String>());
+    private static final long MAX_CRAWL_DELAY = 60000;
+    private final ArrayList<Rule> rules;
+    private final long crawlDelay;
+    private final ArrayList<String> sitemaps;
+
+    static {
+        DISALLOW_ALL.rules.add(new Rule("/", false));
+    }
+
+    private RobotRules(ArrayList<Rule> rules, long crawlDelay, ArrayList<String> sitemaps) {
+        this.rules = rules;
+        this.crawlDelay = crawlDelay;
+        this.sitemaps = sitemaps;
+    }
+
+    public static RobotRules parse(String content, String userAgent) {
+        String agent = productToken(userAgent);
+        ArrayList<Rule> rules = new ArrayList<>();
+        ArrayList<String> groupAgents = new ArrayList<>(), sitemaps = new ArrayList<>();
+        long crawlDelay = -1;
+        int best = -1, groupMatch = -1;
+        boolean inRules = false;
+        for (String line : content.split("\r\n|\r|\n")) {
+            int comment = line.indexOf('#');
+            if (comment != -1) line = line.substring(0, comment);
+            int colon = line.indexOf(':');
+            if (colon == -1) continue;
+            String key = line.substring(0, colon).trim().toLowerCase(Locale.ENGLISH), value = line.substring(colon + 1).trim();
+            if (key.equals("sitemap")) {
+                if (!value.isEmpty() && !sitemaps.contains(value)) sitemaps.add(value);
+                continue;
+            }
+            if (key.equals("user-agent")) {
+                if (inRules) {
+                    groupAgents.clear();
+                    groupMatch = -1;
+                    inRules = false;
+                }
+                groupAgents.add(value);
+                int match = match(value.toLowerCase(Locale.ENGLISH), agent);
+                if (match > groupMatch) groupMatch = match;
+                continue;
+            }
+            if (!key.equals("allow") && !key.equals("disallow") && !key.equals("crawl-delay")) continue;
+            inRules = true;
+            if (groupAgents.isEmpty() || groupMatch == -1 || groupMatch < best) continue;
+            if (groupMatch > best) {
+                best = groupMatch;
+                rules.clear();
+                crawlDelay = -1;
+            }
+            if (key.equals("crawl-delay")) {
+                try {
+                    crawlDelay = Math.min(MAX_CRAWL_DELAY, Math.max(0, (long) (Double.parseDouble(value) * 1000)));
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+            } else if (!value.isEmpty()) {
+                rules.add(new Rule(CanonicalUrl.encode(value), key.equals("allow")));
+            }
+        }
+        Collections.sort(rules, new Comparator<Rule>() {
+            @Override
+            public int compare(Rule a, Rule b) {
+                if (a.length != b.length) return b.length - a.length;
+                return a.allow == b.allow ? 0 : a.allow ? -1 : 1;
+            }
+        });
+        return new RobotRules(rules, Math.max(0, crawlDelay), sitemaps);
+    }
+
+    public boolean isAllowed(String url) {
+        String path = path(url);
+        return path.equals("/robots.txt") || allowed(path);
+    }
+
+    public long crawlDelay() {
+        return crawlDelay;
+    }
+
+    public List<String> sitemaps() {
+        return sitemaps;
+    }
+
+    private boolean allowed(String path) {
+        for (Rule rule : rules) {
+            if (rule.matches(path)) return rule.allow;
+        }
+        return true;
+    }
+
+    private static String path(String url) {
+        String path = url.substring(HostQueue.authority(url).length());
+        int fragment = path.indexOf('#');
+        if (fragment != -1) path = path.substring(0, fragment);
+        return path.startsWith("/") ? path : "/" + path;
+    }
+
+    private static String productToken(String userAgent) {
+        String agent = userAgent == null ? "" : userAgent.trim().toLowerCase(Locale.ENGLISH);
+        for (int i = 0; i < agent.length(); i++) {
+            char c = agent.charAt(i);
+            if (c == '/' || c == ' ' || c == ';' || c == '(') return agent.substring(0, i);
+        }
+        return agent;
+    }
+
+    private static int match(String groupAgent, String agent) {
+        if (groupAgent.equals("*")) return 0;
+        if (!groupAgent.isEmpty() && !agent.isEmpty() && agent.startsWith(groupAgent)) return groupAgent.length();
+        return -1;
+    }
+
+    private static class Rule {
+        private final String[] parts;
+        private final boolean allow, anchored;
+        private final int length;
+
+        Rule(String pattern, boolean allow) {
+            this.allow = allow;
+            length = pattern.length();
+            anchored = pattern.endsWith("$");
+            if (anchored) pattern = pattern.substring(0, pattern.length() - 1);
+            parts = pattern.split("\\*+", -1);
+        }
+
+        boolean matches(String path) {
+            if (!path.startsWith(parts[0])) return false;
+            int pos = parts[0].length();
+            if (parts.length == 1) return !anchored || pos == path.length();
+            for (int i = 1; i < parts.length - 1; i++) {
+                int index = path.indexOf(parts[i], pos);
+                if (index == -1) return false;
+                pos = index + parts[i].length();
+            }
+            String last = parts[parts.length - 1];
+            if (anchored) return path.length() - last.length() >= pos && path.endsWith(last);
+            return path.indexOf(last, pos) != -1;
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.sbtlauien.spacecrawler;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class RobotsCache {
+
+    private final int maxHosts;
+    private final long ttl;
+    private final LinkedHashMap<String, CachedRules> entries;
+
+    public RobotsCache(int maxHosts, long ttl) {
+        this.maxHosts = Math.max(1, maxHosts);
+        this.ttl = ttl;
+        entries = new LinkedHashMap<String, CachedRules>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedRules> eldest) {
+                return size() > RobotsCache.this.maxHosts;
+            }
+        };
+    }
+
+    public synchronized RobotRules get(String authority, long now) {
+        CachedRules entry = entries.get(authority);
+        if (entry == null) return null;
+        if (now > entry.expires) {
+            entries.remove(authority);
+            return null;
+        }
+        return entry.rules;
+    }
+
+    public synchronized void put(String authority, RobotRules rules, long now) {
+        entries.put(authority, new CachedRules(rules, now + ttl));
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private static class CachedRules {
+        private final RobotRules rules;
+        private final long expires;
+
+        CachedRules(RobotRules rules, long expires) {
+            this.rules = rules;
+            this.expires = expires;
+        }
+    }
+
+}
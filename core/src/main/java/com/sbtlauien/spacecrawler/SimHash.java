@@ -0,0 +1,44 @@
+package com.sbtlauien.spacecrawler;
+
+public class SimHash {
+
+    private static final int MIN_FEATURES = 16;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L, FNV_PRIME = 0x100000001b3L;
+
+    public static long of(CharSequence text) {
+        int[] weights = new int[64];
+        long token = FNV_OFFSET, previous = 0;
+        boolean inToken = false, hasPrevious = false;
+        int features = 0;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                token = (token ^ Character.toLowerCase(c)) * FNV_PRIME;
+                inToken = true;
+            } else if (inToken) {
+                if (hasPrevious) {
+                    long feature = FingerprintSet.mix(previous * 31 + token);
+                    for (int bit = 0; bit < 64; bit++) {
+                        weights[bit] += ((feature >>> bit) & 1) != 0 ? 1 : -1;
+                    }
+                    features++;
+                }
+                previous = token;
+                hasPrevious = true;
+                token = FNV_OFFSET;
+                inToken = false;
+            }
+        }
+        if (features < MIN_FEATURES) return 0;
+        long hash = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) hash |= 1L << bit;
+        }
+        return hash;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.sbtlauien.spacecrawler;
+
+import java.util.Arrays;
+
+public class SimHashIndex {
+
+    private static final int BANDS = 4, BAND_BITS = 16, BAND_MASK = (1 << BAND_BITS) - 1, MAX_PROBES = 256;
+    private final int maxDistance;
+    private int[][] heads, next;
+    private long[] hashes;
+    private int size;
+
+    public SimHashIndex(int maxDistance) {
+        this.maxDistance = Math.max(0, Math.min(maxDistance, BANDS - 1));
+    }
+
+    public boolean add(long hash) {
+        if (heads == null) allocate();
+        if (containsNear(hash)) return false;
+        if (size == hashes.length) grow();
+        hashes[size] = hash;
+        for (int band = 0; band < BANDS; band++) {
+            int key = band(hash, band);
+            next[band][size] = heads[band][key];
+            heads[band][key] = size + 1;
+        }
+        size++;
+        return true;
+    }
+
+    public boolean containsNear(long hash) {
+        if (heads == null) return false;
+        for (int band = 0; band < BANDS; band++) {
+            int probes = 0;
+            for (int i = heads[band][band(hash, band)]; i != 0 && probes < MAX_PROBES; i = next[band][i - 1], probes++) {
+                if (SimHash.distance(hashes[i - 1], hash) <= maxDistance) return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        if (heads == null) return;
+        for (int[] band : heads) {
+            Arrays.fill(band, 0);
+        }
+        size = 0;
+    }
+
+    private void allocate() {
+        heads = new int[BANDS][1 << BAND_BITS];
+        next = new int[BANDS][1024];
+        hashes = new long[1024];
+    }
+
+    private void grow() {
+        hashes = Arrays.copyOf(hashes, hashes.length << 1);
+        for (int band = 0; band < BANDS; band++) {
+            next[band] = Arrays.copyOf(next[band], hashes.length);
+        }
+    }
+
+    private static int band(long hash, int band) {
+        return (int) (hash >>> (band * BAND_BITS)) & BAND_MASK;
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.sbtlauien.spacecrawler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class UrlFilter {
+
+    public static final int WHITE = 1, BLACK = 2, WATCH = 4, FINISHED = 8;
+    private static final int MAX_CACHED_HOSTS = 4096;
+    private final AhoCorasick matcher;
+    private final int[] patternFlags;
+    private final HostNode finishedHosts = new HostNode();
+    private final HashMap<String, HostEntry> hostCache = new HashMap<>();
+
+    public UrlFilter(List<String> whiteList, List<String> blackList, List<String> linkWatchList) {
+        LinkedHashMap<String, Integer> terms = new LinkedHashMap<>();
+        addTerms(terms, whiteList, WHITE);
+        addTerms(terms, blackList, BLACK);
+        addTerms(terms, linkWatchList, WATCH);
+        matcher = new AhoCorasick(new ArrayList<>(terms.keySet()));
+        patternFlags = new int[matcher.size()];
+        for (int i = 0; i < patternFlags.length; i++) patternFlags[i] = terms.get(matcher.pattern(i));
+    }
+
+    private static void addTerms(Map<String, Integer> terms, List<String> list, int flag) {
+        for (String term : list) {
+            if (term.length() == 0) continue;
+            term = term.toLowerCase(Locale.ENGLISH);
+            Integer flags = terms.get(term);
+            terms.put(term, flags == null ? flag : flags | flag);
+        }
+    }
+
+    public int evaluate(String url) {
+        return evaluate(url, hostEnd(url));
+    }
+
+    public int evaluate(CanonicalUrl url) {
+        return evaluate(url.url(), url.authorityEnd());
+    }
+
+    private int evaluate(String url, int hostEnd) {
+        HostEntry entry;
+        synchronized (hostCache) {
+            String authority = url.substring(0, hostEnd).toLowerCase(Locale.ENGLISH);
+            entry = hostCache.get(authority);
+            if (entry == null) {
+                if (hostCache.size() >= MAX_CACHED_HOSTS) hostCache.clear();
+                entry = new HostEntry();
+                final HostEntry e = entry;
+                e.state = matcher.scan(authority, 0, 0, new AhoCorasick.MatchListener() {
+                    public boolean onMatch(int pattern, int start) {
+                        e.flags |= patternFlags[pattern];
+                        return true;
+                    }
+                });
+                if (containsHost(finishedHosts, host(url, hostEnd))) e.flags |= FINISHED;
+                hostCache.put(authority, entry);
+            }
+        }
+        final int[] flags = {entry.flags};
+        if ((flags[0] & (WHITE | BLACK | WATCH)) != (WHITE | BLACK | WATCH)) {
+            matcher.scan(url.toLowerCase(Locale.ENGLISH), hostEnd, entry.state, new AhoCorasick.MatchListener() {
+                public boolean onMatch(int pattern, int start) {
+                    flags[0] |= patternFlags[pattern];
+                    return (flags[0] & (WHITE | BLACK | WATCH)) != (WHITE | BLACK | WATCH);
+                }
+            });
+        }
+        return flags[0];
+    }
+
+    public void addFinished(String host) {
+        synchronized (hostCache) {
+            HostNode node = finishedHosts;
+            String[] labels = host.toLowerCase().split("\\.");
+            for (int i = labels.length - 1; i > -1; i--) {
+                HostNode child = node.children.get(labels[i]);
+                if (child == null) {
+                    child = new HostNode();
+                    node.children.put(labels[i], child);
+                }
+                node = child;
+            }
+            node.terminal = true;
+            hostCache.clear();
+        }
+    }
+
+    private static boolean containsHost(HostNode node, String host) {
+        int end = host.length();
+        while (end > 0) {
+            int dot = host.lastIndexOf('.', end - 1);
+            node = node.children.get(host.substring(dot + 1, end));
+            if (node == null) return false;
+            if (node.terminal) return true;
+            end = dot;
+        }
+        return false;
+    }
+
+    private static int hostEnd(String url) {
+        int start = url.indexOf("://");
+        start = start == -1 ? 0 : start + 3;
+        for (int i = start; i < url.length(); i++) {
+            char c = url.charAt(i);
+            if (c == '/' || c == '?' || c == '#') return i;
+        }
+        return url.length();
+    }
+
+    private static String host(String url, int hostEnd) {
+        int start = url.indexOf("://");
+        start = start == -1 ? 0 : start + 3;
+        int at = url.lastIndexOf('@', hostEnd - 1);
+        if (at >= start) start = at + 1;
+        int colon = url.indexOf(':', start);
+        return url.substring(start, colon != -1 && colon < hostEnd ? colon : hostEnd);
+    }
+
+    private static class HostEntry {
+        int state, flags;
+    }
+
+    private static class HostNode {
+        final HashMap<String, HostNode> children = new HashMap<>();
+        boolean terminal;
+    }
+
+}
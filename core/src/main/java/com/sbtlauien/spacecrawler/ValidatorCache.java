@@ -0,0 +1,179 @@
+package com.sbtlauien.spacecrawler;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ValidatorCache {
+
+    private static final int COMPACT_MIN = 1024, MAX_LINKS = 10000, MAX_UTF = 65535;
+    private final File file;
+    private final HashMap<Long, Validator> validators = new HashMap<>();
+    private final ByteArrayOutputStream record = new ByteArrayOutputStream(1024);
+    private RandomAccessFile data;
+    private int records;
+
+    public ValidatorCache(File file) {
+        this.file = file;
+    }
+
+    public synchronized void open() throws IOException {
+        close();
+        load();
+        if (records > COMPACT_MIN && records > validators.size() * 2) {
+            compact();
+            load();
+        }
+    }
+
+    public synchronized Validator get(long hash) {
+        return data != null ? validators.get(hash) : null;
+    }
+
+    public synchronized void put(long hash, String etag, String lastModified, List<String> links) throws IOException {
+        if (data == null) return;
+        if (etag != null && !fits(etag) || lastModified != null && !fits(lastModified)) return;
+        int count = 0;
+        for (int i = 0; i < links.size() && count < MAX_LINKS; i++) {
+            if (fits(links.get(i))) count++;
+        }
+        record.reset();
+        DataOutputStream out = new DataOutputStream(record);
+        out.writeLong(hash);
+        out.writeUTF(etag != null ? etag : "");
+        out.writeUTF(lastModified != null ? lastModified : "");
+        out.writeInt(count);
+        for (int i = 0, written = 0; written < count; i++) {
+            if (!fits(links.get(i))) continue;
+            out.writeUTF(links.get(i));
+            written++;
+        }
+        out.flush();
+        long offset = data.length();
+        data.seek(offset);
+        data.writeInt(record.size());
+        data.write(record.toByteArray());
+        records++;
+        validators.put(hash, new Validator(etag, lastModified, offset));
+    }
+
+    private static boolean fits(String s) {
+        if (s.length() <= MAX_UTF / 3) return true;
+        if (s.length() > MAX_UTF) return false;
+        int bytes = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            bytes += c >= 0x0001 && c <= 0x007F ? 1 : c <= 0x07FF ? 2 : 3;
+        }
+        return bytes <= MAX_UTF;
+    }
+
+    public synchronized List<String> links(Validator validator) throws IOException {
+        ArrayList<String> links = new ArrayList<>();
+        if (data == null) return links;
+        data.seek(validator.offset);
+        byte[] payload = new byte[data.readInt()];
+        data.readFully(payload);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        in.readLong();
+        in.readUTF();
+        in.readUTF();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            links.add(in.readUTF());
+        }
+        return links;
+    }
+
+    public synchronized void sync() throws IOException {
+        if (data != null) data.getFD().sync();
+    }
+
+    public synchronized void close() throws IOException {
+        if (data == null) return;
+        data.close();
+        data = null;
+        validators.clear();
+    }
+
+    private void load() throws IOException {
+        validators.clear();
+        records = 0;
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) throw new IOException("Unable to create " + parent.getPath());
+        data = new RandomAccessFile(file, "rw");
+        long end = data.length(), offset = 0;
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 8192));
+        try {
+            while (offset + 4 <= end) {
+                int length = in.readInt();
+                if (length < 16 || offset + 4 + length > end) break;
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload));
+                long hash = record.readLong();
+                String etag = record.readUTF(), lastModified = record.readUTF();
+                validators.put(hash, new Validator(etag.isEmpty() ? null : etag, lastModified.isEmpty() ? null : lastModified, offset));
+                records++;
+                offset += 4 + length;
+            }
+        } finally {
+            in.close();
+        }
+        if (offset < end) data.setLength(offset);
+    }
+
+    private void compact() throws IOException {
+        File tmp = new File(file.getPath() + ".tmp");
+        FileOutputStream fileOut = new FileOutputStream(tmp);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut, 8192));
+        try {
+            for (Map.Entry<Long, Validator> entry : validators.entrySet()) {
+                data.seek(entry.getValue().offset);
+                byte[] payload = new byte[data.readInt()];
+                data.readFully(payload);
+                out.writeInt(payload.length);
+                out.write(payload);
+            }
+            out.flush();
+            fileOut.getFD().sync();
+        } finally {
+            out.close();
+        }
+        data.close();
+        data = null;
+        if (!file.delete() || !tmp.renameTo(file)) throw new IOException("Unable to compact " + file.getPath());
+    }
+
+    public static class Validator {
+        private final String etag, lastModified;
+        private final long offset;
+
+        Validator(String etag, String lastModified, long offset) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.offset = offset;
+        }
+
+        public String etag() {
+            return etag;
+        }
+
+        public String lastModified() {
+            return lastModified;
+        }
+    }
+
+}
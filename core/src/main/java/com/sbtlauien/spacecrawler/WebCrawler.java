@@ -0,0 +1,713 @@
+package com.sbtlauien.spacecrawler;
+
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import org.jsoup.UncheckedIOException;
+import org.jsoup.helper.HttpConnection;
+import org.jsoup.parser.LinkExtractor;
+import org.jsoup.parser.ParseLimits;
+import org.jsoup.parser.SitemapExtractor;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class WebCrawler {
+
+    public static final String USER_AGENT = "SpaceCrawler/1.0";
+    private static final int MAX_LISTED = 5000, CHECKPOINT_INTERVAL = 5000, MAX_ROBOTS_SIZE = 512 * 1024, MAX_SITEMAPS = 50,
+            MAX_SITEMAP_SIZE = 50 * 1024 * 1024, LINK_BATCH = 512, NEAR_DISTANCE = 3, MAX_PAGE_INPUT = 1024 * 1024, MAX_PAGE_ELEMENTS = 50000,
+            MAX_BUFFERED = 256 * 1024, MAX_ROBOTS_ATTEMPTS = 3;
+    private static final long ROBOTS_TTL = 24 * 60 * 60 * 1000, ROBOTS_RETRY_DELAY = 5 * 60 * 1000;
+    private static ArrayList<String> sourceWatchList = new ArrayList<>(), linkWatchList = new ArrayList<>(), whiteList = new ArrayList<>(), blackList = new ArrayList<>(),
+            fileExtension = new ArrayList<>();
+    private static final Object lock = new Object();
+    private static CrawlState state;
+    private static ValidatorCache validators;
+    private static final FingerprintSet contents = new FingerprintSet(4096);
+    private static final SimHashIndex simHashes = new SimHashIndex(NEAR_DISTANCE);
+    private static final CrawlStats stats = new CrawlStats();
+    private static final RobotsCache robotsCache = new RobotsCache(1000, ROBOTS_TTL);
+    private static volatile ProgressSink progress = stats;
+    private static volatile ParseLimits pageLimits = new ParseLimits(MAX_PAGE_INPUT, MAX_PAGE_ELEMENTS, 0);
+    private static volatile ResultSink linkResults, sourceResults, errorResults;
+    private static File home = new File("SpaceCrawler");
+    private static volatile WebCrawler running;
+    private static AhoCorasick sourceMatcher;
+    private static UrlFilter urlFilter = new UrlFilter(new ArrayList<String>(), new ArrayList<String>(), new ArrayList<String>());
+    private static String mainUrl, userAgent;
+    private static HostScheduler scheduler;
+    private static long lastCheckpoint, hostDelay = 500;
+    private static int activeWorkers, runningWorkers, workers = 4, hostConnections = 2, activeHosts = 8;
+    private static volatile boolean atomic = false, crawlExternal = false, useSourceWatchList = false, useLinkWatchList = false, useWhiteList = false, useBlackList = false, obeyRobots = true, useSitemaps = true, conditional = true, skipNearDuplicates = false;
+
+    public WebCrawler(String url, String ua) {
+        running = this;
+        sourceWatchList = new ArrayList<>();
+        linkWatchList = new ArrayList<>();
+        whiteList = new ArrayList<>();
+        blackList = new ArrayList<>();
+        fileExtension = new ArrayList<>();
+        stats.reset();
+        synchronized (lock) {
+            contents.clear();
+            simHashes.clear();
+        }
+        CanonicalUrl root = CanonicalUrl.parse(url);
+        mainUrl = root != null ? root.key() : url.trim();
+        userAgent = ua;
+        resetLists();
+        synchronized (lock) {
+            if (linkResults == null) linkResults = new ResultWriter(new File(home, "LinkResults.txt"));
+            if (sourceResults == null) sourceResults = new ResultWriter(new File(home, "SourceResults.txt"));
+            if (errorResults == null) errorResults = new ResultWriter(new File(home, "Errors.txt"));
+        }
+        try {
+            if (!home.exists()) home.mkdirs();
+            File f = new File(home, "WhiteList.txt");
+            if(!f.exists()) {
+                OutputStreamWriter outputWriter = new OutputStreamWriter(new FileOutputStream(f));
+                outputWriter.flush();
+                outputWriter.close();
+            }
+            BufferedReader readerFile = new BufferedReader(new FileReader(f));
+            String currentLine;
+            while ((currentLine = readerFile.readLine()) != null) {
+                whiteList.add(currentLine);
+            }
+            if (whiteList.isEmpty()) useWhiteList = false;
+            readerFile.close();
+            f = new File(home, "BlackList.txt");
+            if(!f.exists()) {
+                OutputStreamWriter outputWriter = new OutputStreamWriter(new FileOutputStream(f));
+                outputWriter.flush();
+                outputWriter.close();
+            }
+            readerFile = new BufferedReader(new FileReader(f));
+            while ((currentLine = readerFile.readLine()) != null) {
+                blackList.add(currentLine);
+            }
+            if (blackList.isEmpty()) useBlackList = false;
+            readerFile.close();
+            f = new File(home, "LinkWatchList.txt");
+            if(!f.exists()) {
+                OutputStreamWriter outputWriter = new OutputStreamWriter(new FileOutputStream(f));
+                outputWriter.flush();
+                outputWriter.close();
+            }
+            readerFile = new BufferedReader(new FileReader(f));
+            while ((currentLine = readerFile.readLine()) != null) {
+                linkWatchList.add(currentLine);
+            }
+            if (linkWatchList.isEmpty()) useLinkWatchList = false;
+            readerFile.close();
+            f = new File(home, "SourceWatchList.txt");
+            if(!f.exists()) {
+                OutputStreamWriter outputWriter = new OutputStreamWriter(new FileOutputStream(f));
+                outputWriter.flush();
+                outputWriter.close();
+            }
+            readerFile = new BufferedReader(new FileReader(f));
+            while ((currentLine = readerFile.readLine()) != null) {
+                sourceWatchList.add(currentLine);
+            }
+            if (sourceWatchList.isEmpty()) useSourceWatchList = false;
+            readerFile.close();
+            sourceMatcher = new AhoCorasick(sourceWatchList);
+            urlFilter = new UrlFilter(whiteList, blackList, linkWatchList);
+        } catch (Exception e) {
+            problem(e.getMessage());
+        }
+        boolean resumed;
+        synchronized (lock) {
+            try {
+                if (state == null) state = new CrawlState(stateDir());
+                if (validators == null) {
+                    validators = new ValidatorCache(new File(home, "Validators.dat"));
+                    validators.open();
+                }
+                resumed = state.open(mainUrl);
+                if (resumed) {
+                    stats.pages().set(state.getInt("pages"));
+                    stats.sourceWatchList().set(state.getInt("sourceWatchList"));
+                    stats.linkWatchList().set(state.getInt("linkWatchList"));
+                    stats.errors().set(state.getInt("errors"));
+                    for (String domain : state.finished()) {
+                        try {
+                            urlFilter.addFinished(new URL(domain).getHost());
+                        } catch (MalformedURLException e) {
+                            urlFilter.addFinished(domain);
+                        }
+                    }
+                } else {
+                    state.markSeen(FingerprintSet.fingerprint(mainUrl));
+                    state.addHost(mainUrl).queue().add(mainUrl);
+                    state.checkpoint();
+                }
+            } catch (IOException e) {
+                problem(e.getMessage());
+                progress.allFinished();
+                return;
+            }
+            scheduler = new HostScheduler(hostDelay, hostConnections);
+            int poolSize = HttpConnection.configurePool(hostConnections, 30000);
+            if (poolSize != hostConnections) progress.log("CONNECTIONS: keep-alive pool already set to " + poolSize + " per host for this process");
+            activeWorkers = 0;
+            runningWorkers = workers;
+            lastCheckpoint = System.currentTimeMillis();
+        }
+        if (resumed) {
+            progress.log("RESUMED: " + mainUrl);
+            stats.internalPages().set(state.queued());
+            stats.externalPages().set(state.external().remaining());
+            stats.finished().set(state.finished().size());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        for (int i = 0; i < workers; i++) {
+            executor.execute(new CrawlWorker());
+        }
+        executor.shutdown();
+    }
+
+    private class CrawlWorker implements Runnable {
+        private final LinkExtractor page = new LinkExtractor();
+        private HostQueue host;
+        private long ticket;
+
+        @Override
+        public void run() {
+            try {
+                String url;
+                while ((url = nextUrl(this)) != null) {
+                    try {
+                        crawlPage(url, host, page);
+                    } catch (RuntimeException e) {
+                        pageError(url, e);
+                    } finally {
+                        page.reset();
+                        synchronized (lock) {
+                            activeWorkers--;
+                            scheduler.release(host);
+                            if (running == WebCrawler.this) {
+                                host.queue().commit(ticket);
+                                if (System.currentTimeMillis() - lastCheckpoint > CHECKPOINT_INTERVAL) checkpoint();
+                            }
+                            lock.notifyAll();
+                        }
+                    }
+                }
+            } finally {
+                synchronized (lock) {
+                    runningWorkers--;
+                    if (runningWorkers == 0 && running == WebCrawler.this) {
+                        if (!atomic) state.setProperty("complete", true);
+                        checkpoint();
+                        progress.allFinished();
+                        atomic = false;
+                    }
+                }
+            }
+        }
+    }
+
+    private String nextUrl(CrawlWorker worker) {
+        synchronized (lock) {
+            try {
+                while (!atomic && running == this) {
+                    long now = System.currentTimeMillis();
+                    HostQueue host = scheduler.select(state.hosts(), now);
+                    if (host != null) {
+                        activeWorkers++;
+                        worker.host = host;
+                        worker.ticket = host.queue().head();
+                        return host.queue().poll();
+                    }
+                    retireHosts();
+                    int slots = activeHosts - state.hosts().size();
+                    if (crawlExternal && slots > 0 && state.external().remaining() > 0 && (state.hosts().size() * 2 <= activeHosts || !scheduler.hasWork(state.hosts()))) {
+                        for (HostQueue added : state.refill(slots, urlFilter)) {
+                            progress.log("HOST: " + added.prefix());
+                        }
+                        stats.internalPages().set(state.queued());
+                        stats.externalPages().set(state.external().remaining());
+                        continue;
+                    }
+                    if (state.hosts().isEmpty()) break;
+                    lock.wait(scheduler.waitTime(state.hosts(), now));
+                }
+            } catch (IOException e) {
+                problem(e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            lock.notifyAll();
+            return null;
+        }
+    }
+
+    private void retireHosts() throws IOException {
+        for (int i = state.hosts().size() - 1; i > -1; i--) {
+            HostQueue host = state.hosts().get(i);
+            if (!host.drained()) continue;
+            try {
+                URL url = new URL(host.prefix());
+                state.finishDomain(url.getProtocol() + "://" + url.getHost());
+                urlFilter.addFinished(url.getHost());
+            } catch (MalformedURLException e) {
+                state.finishDomain(host.prefix());
+            }
+            state.removeHost(host);
+            stats.finished().set(state.finished().size());
+            stats.internalPages().set(state.queued());
+        }
+    }
+
+    private static void checkpoint() {
+        state.setProperty("pages", stats.pages().get());
+        state.setProperty("sourceWatchList", stats.sourceWatchList().get());
+        state.setProperty("linkWatchList", stats.linkWatchList().get());
+        state.setProperty("errors", stats.errors().get());
+        try {
+            state.checkpoint();
+            if (validators != null) validators.sync();
+        } catch (IOException e) {
+            problem(e.getMessage());
+        }
+        lastCheckpoint = System.currentTimeMillis();
+    }
+
+    private RobotRules robots(HostQueue host) {
+        if (host.robots != null) return host.robots;
+        long now = System.currentTimeMillis();
+        RobotRules rules = obeyRobots ? robotsCache.get(host.authority(), now) : RobotRules.ALLOW_ALL;
+        if (rules == null) {
+            rules = fetchRobots(host.authority());
+            if (rules == null) {
+                synchronized (lock) {
+                    if (++host.robotsFailures < MAX_ROBOTS_ATTEMPTS) {
+                        host.nextFetch = Math.max(host.nextFetch, now + ROBOTS_RETRY_DELAY);
+                        return null;
+                    }
+                }
+                rules = RobotRules.DISALLOW_ALL;
+            }
+            robotsCache.put(host.authority(), rules, now);
+        }
+        synchronized (lock) {
+            host.robots = rules;
+            host.robotsFailures = 0;
+            host.nextFetch = Math.max(host.nextFetch, System.currentTimeMillis() + rules.crawlDelay());
+            lock.notifyAll();
+        }
+        if (useSitemaps && rules != RobotRules.DISALLOW_ALL) seedSitemaps(host.authority(), rules.sitemaps());
+        return rules;
+    }
+
+    private static RobotRules fetchRobots(String authority) {
+        try {
+            Connection.Response response = Jsoup.connect(authority + "/robots.txt").userAgent(userAgent).timeout(5000).keepAlive(true).ignoreHttpErrors(true)
+                    .ignoreContentType(true).maxBodySize(MAX_ROBOTS_SIZE).execute();
+            int status = response.statusCode();
+            if (status >= 200 && status < 300) return RobotRules.parse(response.body(), userAgent);
+            response.close();
+            if (status >= 400 && status < 500) return RobotRules.ALLOW_ALL;
+            progress.log("ROBOTS: " + authority + " - HTTP " + status);
+        } catch (IOException | UncheckedIOException e) {
+            progress.log("ROBOTS: " + authority + " - " + e.getMessage());
+        }
+        return null;
+    }
+
+    private void crawlPage(String url, HostQueue origin, LinkExtractor page) {
+        RobotRules rules = robots(origin);
+        if (rules == null) {
+            synchronized (lock) {
+                try {
+                    origin.queue().add(url);
+                } catch (IOException e) {
+                    problem(e.getMessage());
+                }
+            }
+            progress.log("DEFERRED: " + url);
+            return;
+        }
+        if (!rules.isAllowed(url)) {
+            progress.log("DISALLOWED: " + url);
+            return;
+        }
+        progress.log("CRAWLING: " + url);
+        stats.pages().incrementAndGet();
+        if (useLinkWatchList && (urlFilter.evaluate(url) & UrlFilter.WATCH) != 0) {
+            stats.linkWatchList().incrementAndGet();
+            writeResult(linkResults, url);
+        }
+        page.collectText((useSourceWatchList && sourceMatcher != null) || skipNearDuplicates).limits(pageLimits);
+        long hash = FingerprintSet.fingerprint(url);
+        ValidatorCache.Validator validator = conditional ? validators.get(hash) : null;
+        long start = System.nanoTime();
+        String etag, lastModified;
+        try {
+            Connection connection = Jsoup.connect(url).userAgent(userAgent).timeout(5000).keepAlive(true).maxBodySize(0);
+            if (validator != null && validator.etag() != null) connection.header("If-None-Match", validator.etag());
+            if (validator != null && validator.lastModified() != null) connection.header("If-Modified-Since", validator.lastModified());
+            Connection.Response response = connection.execute();
+            if (validator != null && response.statusCode() == 304) {
+                response.close();
+                progress.log("UNCHANGED: " + url);
+                if (!atomic) addLinks(validators.links(validator));
+                return;
+            }
+            boolean buffered = buffered(response);
+            if (buffered && duplicate(response, url)) return;
+            response.extractLinks(page);
+            if (page.truncated()) {
+                stats.truncated().incrementAndGet();
+                progress.log("TRUNCATED: " + url);
+            }
+            if (!buffered && duplicate(response, url)) return;
+            etag = response.header("ETag");
+            lastModified = response.header("Last-Modified");
+        } catch (UncheckedIOException e) {
+            pageError(url, e.ioException());
+            return;
+        } catch (IOException e) {
+            pageError(url, e);
+            return;
+        } finally {
+            stats.recordFetch((System.nanoTime() - start) / 1000);
+        }
+        if (atomic) return;
+        if (useSourceWatchList && sourceMatcher != null){
+            BitSet reported = new BitSet(sourceMatcher.size());
+            for (AhoCorasick.Match match : sourceMatcher.findAll(page.text())) {
+                if (reported.get(match.pattern())) continue;
+                reported.set(match.pattern());
+                writeResult(sourceResults, sourceMatcher.pattern(match.pattern()) + ": " + url);
+                stats.sourceWatchList().incrementAndGet();
+            }
+        }
+        if (skipNearDuplicates) {
+            long simHash = SimHash.of(page.text());
+            boolean nearDuplicate;
+            synchronized (lock) {
+                nearDuplicate = simHash != 0 && !simHashes.add(simHash);
+            }
+            if (nearDuplicate) {
+                stats.nearDuplicates().incrementAndGet();
+                progress.log("NEAR DUPLICATE: " + url);
+                storeValidator(hash, etag, lastModified, new ArrayList<String>(), url);
+                return;
+            }
+        }
+        storeValidator(hash, etag, lastModified, page.links(), url);
+        addLinks(page.links());
+    }
+
+    private static void pageError(String url, Exception e) {
+        writeResult(errorResults, url + e.toString());
+        stats.errors().incrementAndGet();
+        progress.log("ERROR: " + url + " - " + e.getMessage());
+    }
+
+    private static boolean buffered(Connection.Response response) {
+        if (response.header("Content-Encoding") != null) return false;
+        String length = response.header("Content-Length");
+        try {
+            return length != null && Long.parseLong(length.trim()) <= MAX_BUFFERED;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean duplicate(Connection.Response response, String url) throws IOException {
+        boolean duplicate;
+        synchronized (lock) {
+            duplicate = !contents.add(FingerprintSet.mix(response.contentHash()));
+        }
+        if (duplicate) {
+            stats.duplicates().incrementAndGet();
+            progress.log("DUPLICATE: " + url);
+        }
+        return duplicate;
+    }
+
+    private static void storeValidator(long hash, String etag, String lastModified, List<String> links, String url) {
+        if (!conditional || etag == null && lastModified == null) return;
+        try {
+            validators.put(hash, etag, lastModified, links);
+        } catch (IOException e) {
+            progress.log("VALIDATORS: " + url + " - " + e.getMessage());
+        }
+    }
+
+    private boolean addLinks(List<String> links) {
+        ArrayList<CanonicalUrl> batch = new ArrayList<>(Math.min(links.size(), LINK_BATCH));
+        for (int i = 0; i < links.size(); i++) {
+            if (atomic) return false;
+            CanonicalUrl canonical = CanonicalUrl.parse(links.get(i));
+            if (canonical != null && !aFile(canonical.url())) batch.add(canonical);
+            if (batch.size() == LINK_BATCH || i == links.size() - 1) {
+                if (!enqueue(batch)) return false;
+                batch.clear();
+            }
+        }
+        return true;
+    }
+
+    private boolean enqueue(List<CanonicalUrl> batch) {
+        synchronized (lock) {
+            if (running != this) return false;
+            try {
+                for (CanonicalUrl canonical : batch) {
+                    if (!state.markSeen(canonical.hash())) continue;
+                    int flags = urlFilter.evaluate(canonical);
+                    if ((useBlackList && (flags & UrlFilter.BLACK) != 0) || (useWhiteList && (flags & UrlFilter.WHITE) == 0)) continue;
+                    String linkUrl = canonical.url();
+                    HostQueue host = state.host(linkUrl);
+                    if (host != null){
+                        host.queue().add(linkUrl);
+                        lock.notifyAll();
+                        stats.internalPages().incrementAndGet();
+                    } else if ((flags & UrlFilter.FINISHED) == 0) {
+                        state.external().add(linkUrl);
+                        stats.externalPages().incrementAndGet();
+                    }
+                }
+            } catch (IOException e) {
+                problem(e.getMessage());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void seedSitemaps(String authority, List<String> listed) {
+        ArrayDeque<String> pending = new ArrayDeque<>(listed);
+        if (pending.isEmpty()) pending.add(authority + "/sitemap.xml");
+        HashSet<String> fetched = new HashSet<>();
+        while (!pending.isEmpty() && fetched.size() < MAX_SITEMAPS) {
+            String url = pending.poll();
+            if (!fetched.add(url)) continue;
+            SitemapExtractor sitemap = new SitemapExtractor();
+            try {
+                Jsoup.connect(url).userAgent(userAgent).timeout(5000).keepAlive(true).ignoreContentType(true).maxBodySize(MAX_SITEMAP_SIZE).execute()
+                        .extractSitemap(sitemap);
+            } catch (IOException e) {
+                if (!listed.isEmpty()) progress.log("SITEMAP ERROR: " + url + " - " + e.getMessage());
+                continue;
+            }
+            progress.log("SITEMAP: " + url + " - " + sitemap.urls().size() + " URLS");
+            pending.addAll(sitemap.sitemaps());
+            if (!addLinks(sitemap.urls())) return;
+        }
+    }
+
+    public static CrawlStats getStats(){
+        return stats;
+    }
+
+    public static void resetErrorCount(){
+        stats.errors().set(0);
+    }
+
+    private static boolean aFile(String s){
+        boolean b = false;
+        s = s.toLowerCase(Locale.ENGLISH);
+        for (String ex: fileExtension) {
+            if (s.endsWith(ex)) b = true;
+        }
+        return b;
+    }
+
+    public static ArrayList getList(int listId) {
+        synchronized (lock) {
+            if (state == null || !state.isOpen()) return new ArrayList<String>();
+            try {
+                switch (listId){
+                    case 0:
+                        ArrayList<String> queued = new ArrayList<>();
+                        for (HostQueue host : state.hosts()) {
+                            queued.addAll(host.queue().list(MAX_LISTED - queued.size()));
+                        }
+                        return queued;
+                    case 1: return state.external().list(MAX_LISTED);
+                    case 2: return new ArrayList<>(state.finished());
+                }
+            } catch (IOException e) {
+                problem(e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    public static void setUse(int listId, boolean b){
+        switch (listId){
+            case 0: useLinkWatchList = b; break;
+            case 1: useWhiteList = b; break;
+            case 2: useBlackList = b; break;
+            case 3: useSourceWatchList = b; break;
+        }
+    }
+
+    public static boolean getUse(int listId){
+        switch (listId){
+            case 0: return useLinkWatchList;
+            case 1: return useWhiteList;
+            case 2: return useBlackList;
+            case 3: return useSourceWatchList;
+        }
+        return false;
+    }
+
+    public static void setExtensions(String is){
+        String[] sa = is.split("\n");
+        for (String s: sa) {
+            fileExtension.add(s);
+        }
+    }
+
+    public static void clearAll(){
+        synchronized (lock) {
+            running = null;
+            resetLists();
+            try {
+                if (state == null) state = new CrawlState(stateDir());
+                state.clear();
+                robotsCache.clear();
+            } catch (IOException e) {
+                problem(e.getMessage());
+            }
+        }
+        stats.reset();
+    }
+
+    private static void resetLists(){
+        sourceWatchList = new ArrayList<>();
+        linkWatchList = new ArrayList<>();
+        whiteList = new ArrayList<>();
+        blackList = new ArrayList<>();
+        sourceMatcher = null;
+        urlFilter = new UrlFilter(whiteList, blackList, linkWatchList);
+    }
+
+    private static File stateDir(){
+        return new File(home, "State");
+    }
+
+    private static void writeResult(ResultSink sink, String line){
+        if (sink != null) sink.write(line);
+    }
+
+    static void problem(String message){
+        progress.problem(message);
+    }
+
+    public static void setHome(File dir){
+        synchronized (lock) {
+            if (runningWorkers > 0) return;
+            if (state != null) {
+                try {
+                    state.close();
+                } catch (IOException e) {
+                    problem(e.getMessage());
+                }
+            }
+            if (validators != null) {
+                try {
+                    validators.close();
+                } catch (IOException e) {
+                    problem(e.getMessage());
+                }
+            }
+            home = dir;
+            state = null;
+            validators = null;
+            closeResults();
+        }
+    }
+
+    public static File getHome(){return home;}
+
+    public static void setProgressSink(ProgressSink sink){progress = sink != null ? sink : stats;}
+
+    public static void setResultSink(int listId, ResultSink sink){
+        synchronized (lock) {
+            switch (listId){
+                case 0: if (linkResults != null) linkResults.close(); linkResults = sink; break;
+                case 1: if (sourceResults != null) sourceResults.close(); sourceResults = sink; break;
+                case 2: if (errorResults != null) errorResults.close(); errorResults = sink; break;
+            }
+        }
+    }
+
+    public static void closeResults(){
+        synchronized (lock) {
+            if (linkResults != null) linkResults.close();
+            if (sourceResults != null) sourceResults.close();
+            if (errorResults != null) errorResults.close();
+            linkResults = null;
+            sourceResults = null;
+            errorResults = null;
+        }
+    }
+
+    public static void setAtomic(boolean b){
+        synchronized (lock) {
+            atomic = b;
+            lock.notifyAll();
+        }
+    }
+
+    public static void setWorkers(int i){workers = Math.max(1, i);}
+
+    public static int getWorkers(){return workers;}
+
+    public static void setHostDelay(long l){hostDelay = Math.max(0, l);}
+
+    public static long getHostDelay(){return hostDelay;}
+
+    public static void setHostConnections(int i){hostConnections = Math.max(1, i);}
+
+    public static int getHostConnections(){return hostConnections;}
+
+    public static void setActiveHosts(int i){activeHosts = Math.max(1, i);}
+
+    public static int getActiveHosts(){return activeHosts;}
+
+    public static void setCrawlExternal(boolean b){crawlExternal = b;}
+
+    public static void setObeyRobots(boolean b){obeyRobots = b;}
+
+    public static boolean getObeyRobots(){return obeyRobots;}
+
+    public static void setUseSitemaps(boolean b){useSitemaps = b;}
+
+    public static void setConditional(boolean b){conditional = b;}
+
+    public static void setSkipNearDuplicates(boolean b){skipNearDuplicates = b;}
+
+    public static boolean getSkipNearDuplicates(){return skipNearDuplicates;}
+
+    public static void setParseLimits(ParseLimits limits){pageLimits = limits;}
+
+    public static ParseLimits getParseLimits(){return pageLimits;}
+
+    public static boolean getConditional(){return conditional;}
+
+    public static boolean getUseSitemaps(){return useSitemaps;}
+
+    public static boolean getCrawlExternal(){return crawlExternal;}
+
+}
\ No newline at end of file
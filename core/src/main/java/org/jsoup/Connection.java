@@ -1,6 +1,8 @@
 package org.jsoup;
 
 import org.jsoup.nodes.Document;
+import org.jsoup.parser.LinkExtractor;
+import org.jsoup.parser.SitemapExtractor;
 import org.jsoup.parser.Parser;
 import java.io.IOException;
 import java.io.InputStream;
@@ -35,6 +37,7 @@ public interface Connection {
     Connection ignoreHttpErrors(boolean ignoreHttpErrors);
     Connection ignoreContentType(boolean ignoreContentType);
     Connection validateTLSCertificates(boolean value);
+    Connection keepAlive(boolean keepAlive);
     Connection data(String key, String value);
     Connection data(String key, String filename, InputStream inputStream);
     Connection data(Collection<KeyVal> data);
@@ -90,6 +93,8 @@ public interface Connection {
         Request ignoreContentType(boolean ignoreContentType);
         boolean validateTLSCertificates();
         void validateTLSCertificates(boolean value);
+        boolean keepAlive();
+        Request keepAlive(boolean keepAlive);
         Request data(KeyVal keyval);
         Collection<KeyVal> data();
         Request requestBody(String body);
@@ -107,8 +112,18 @@ public interface Connection {
         Response charset(String charset);
         String contentType();
         Document parse() throws IOException;
-        String body();
-        byte[] bodyAsBytes();
+        LinkExtractor extractLinks(LinkExtractor extractor) throws IOException;
+        SitemapExtractor extractSitemap(SitemapExtractor extractor) throws IOException;
+        String body() throws IOException;
+        byte[] bodyAsBytes() throws IOException;
+        long contentHash() throws IOException;
+
+        /**
+         * Releases the connection behind this response. An executed response holds its connection open until the body
+         * is read by parse(), extractLinks(), extractSitemap(), body() or bodyAsBytes(); callers that read none of them
+         * must close the response.
+         */
+        void close();
     }
     
     interface KeyVal {
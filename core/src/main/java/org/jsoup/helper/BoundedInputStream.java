@@ -0,0 +1,86 @@
+package org.jsoup.helper;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+final class BoundedInputStream extends FilterInputStream {
+    static final long HASH_SEED = 0xcbf29ce484222325L;
+    private static final long HASH_PRIME = 0x100000001b3L;
+    private final boolean capped;
+    private int remaining;
+    private boolean exhausted = false;
+    private long hash = HASH_SEED;
+
+    BoundedInputStream(InputStream in, int maxSize) {
+        super(in);
+        Validate.isTrue(maxSize >= 0, "maxSize must be 0 (unlimited) or larger");
+        capped = maxSize > 0;
+        remaining = maxSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (capped && remaining == 0) return -1;
+        int read = in.read();
+        if (read == -1) {
+            exhausted = true;
+        } else {
+            hash = (hash ^ read) * HASH_PRIME;
+            if (capped) remaining--;
+        }
+        return read;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (capped && remaining == 0) return -1;
+        if (capped && len > remaining) len = remaining;
+        int read = in.read(b, off, len);
+        if (read == -1) {
+            exhausted = true;
+        } else {
+            hash = hash(hash, b, off, read);
+            if (capped) remaining -= read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        byte[] skipBuffer = new byte[(int) Math.min(n, 4096)];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(skipBuffer, 0, (int) Math.min(n - skipped, skipBuffer.length));
+            if (read == -1) break;
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        int available = in.available();
+        return capped && available > remaining ? remaining : available;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    boolean exhausted() {
+        return exhausted;
+    }
+
+    long hash() {
+        return hash;
+    }
+
+    static long hash(long hash, byte[] b, int off, int len) {
+        for (int i = off, end = off + len; i < end; i++) {
+            hash = (hash ^ (b[i] & 0xff)) * HASH_PRIME;
+        }
+        return hash;
+    }
+}
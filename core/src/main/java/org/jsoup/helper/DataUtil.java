@@ -0,0 +1,287 @@
+package org.jsoup.helper;
+
+import org.jsoup.UncheckedIOException;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.XmlDeclaration;
+import org.jsoup.parser.LinkExtractor;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.SitemapExtractor;
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.IllegalCharsetNameException;
+import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+public final class DataUtil {
+    private static final Pattern charsetPattern = Pattern.compile("(?i)\\bcharset=\\s*(?:\"|')?([^\\s,;\"']*)");
+    static final String defaultCharset = "UTF-8"; 
+    private static final int bufferSize = 60000;
+    private static final int firstReadBufferSize = 1024 * 5;
+    private static final char[] mimeBoundaryChars = "-_1234567890abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    static final int boundaryLength = 32;
+    private DataUtil() {}
+
+    public static Document load(File in, String charsetName, String baseUri) throws IOException {
+        ByteBuffer byteData = readFileToByteBuffer(in);
+        return parseByteData(byteData, charsetName, baseUri, Parser.htmlParser());
+    }
+
+    public static Document load(InputStream in, String charsetName, String baseUri) throws IOException {
+        return parseInputStream(in, charsetName, baseUri, Parser.htmlParser());
+    }
+
+    public static Document load(InputStream in, String charsetName, String baseUri, Parser parser) throws IOException {
+        return parseInputStream(in, charsetName, baseUri, parser);
+    }
+
+    public static Document parseInputStream(InputStream input, String charsetName, String baseUri, Parser parser) throws IOException {
+        if (input == null) return new Document(baseUri);
+        BufferedInputStream in = new BufferedInputStream(input, bufferSize);
+        ByteBuffer firstBytes = readPrefix(in);
+        boolean fullyRead = firstBytes.limit() < firstReadBufferSize;
+        charsetName = detectCharsetFromBom(firstBytes, charsetName);
+        if (firstBytes.position() > 0) in.skip(firstBytes.position());
+        if (charsetName == null) {
+            Document doc = parser.parseInput(Charset.forName(defaultCharset).decode(firstBytes).toString(), baseUri);
+            String foundCharset = charsetFromDocument(doc);
+            if (foundCharset == null || foundCharset.equals(defaultCharset)) {
+                if (fullyRead) return doc;
+                charsetName = defaultCharset;
+            } else {
+                charsetName = foundCharset;
+            }
+        } else {
+            Validate.notEmpty(charsetName, "Must set charset arg to character set of file to parse. Set to null to attempt to detect from HTML");
+        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, Charset.forName(charsetName)), bufferSize);
+        Document doc;
+        try {
+            doc = parser.parseInput(reader, baseUri);
+        } catch (UncheckedIOException e) {
+            throw e.ioException();
+        }
+        doc.outputSettings().charset(charsetName);
+        return doc;
+    }
+
+    static void crossStreams(final InputStream in, final OutputStream out) throws IOException {
+        final byte[] buffer = new byte[bufferSize];
+        int len;
+        while ((len = in.read(buffer)) != -1) {
+            out.write(buffer, 0, len);
+        }
+    }
+
+    public static LinkExtractor extractLinks(InputStream input, String charsetName, String baseUri, LinkExtractor extractor) throws IOException {
+        if (input == null) return extractor.extract("", baseUri);
+        BufferedInputStream in = new BufferedInputStream(input, bufferSize);
+        ByteBuffer firstBytes = readPrefix(in);
+        charsetName = detectCharsetFromBom(firstBytes, charsetName);
+        if (firstBytes.position() > 0) in.skip(firstBytes.position());
+        if (charsetName == null) {
+            Document doc = Parser.htmlParser().parseInput(Charset.forName(defaultCharset).decode(firstBytes).toString(), baseUri);
+            String foundCharset = charsetFromDocument(doc);
+            charsetName = foundCharset != null ? foundCharset : defaultCharset;
+        } else {
+            Validate.notEmpty(charsetName, "Must set charset arg to character set of file to parse. Set to null to attempt to detect from HTML");
+        }
+        return extractor.extract(new BufferedReader(new InputStreamReader(in, Charset.forName(charsetName)), bufferSize), baseUri);
+    }
+
+    public static SitemapExtractor extractSitemap(InputStream input, String charsetName, String baseUri, SitemapExtractor extractor) throws IOException {
+        if (input == null) return extractor.extract("", baseUri);
+        BufferedInputStream in = new BufferedInputStream(input, bufferSize);
+        in.mark(2);
+        boolean gzip = in.read() == 0x1f && in.read() == 0x8b;
+        in.reset();
+        if (gzip) in = new BufferedInputStream(new GZIPInputStream(in), bufferSize);
+        ByteBuffer firstBytes = readPrefix(in);
+        charsetName = detectCharsetFromBom(firstBytes, gzip ? null : charsetName);
+        if (firstBytes.position() > 0) in.skip(firstBytes.position());
+        if (charsetName == null) charsetName = defaultCharset;
+        return extractor.extract(new BufferedReader(new InputStreamReader(in, Charset.forName(charsetName)), bufferSize), baseUri);
+    }
+
+    private static ByteBuffer readPrefix(BufferedInputStream in) throws IOException {
+        in.mark(firstReadBufferSize);
+        byte[] first = new byte[firstReadBufferSize];
+        int length = 0;
+        int read;
+        while (length < first.length && (read = in.read(first, length, first.length - length)) != -1) {
+            length += read;
+        }
+        in.reset();
+        return ByteBuffer.wrap(first, 0, length);
+    }
+
+    static Document parseByteData(ByteBuffer byteData, String charsetName, String baseUri, Parser parser) {
+        CharBuffer docData;
+        Document doc = null;
+        charsetName = detectCharsetFromBom(byteData, charsetName);
+        if (charsetName == null) {
+            docData = decode(byteData, defaultCharset, null);
+            doc = parser.parseInput(docData, baseUri);
+            String foundCharset = charsetFromDocument(doc);
+            if (foundCharset != null && !foundCharset.equals(defaultCharset)) { 
+                charsetName = foundCharset;
+                byteData.rewind();
+                docData = decode(byteData, foundCharset, docData);
+                doc = null;
+            }
+        } else { 
+            Validate.notEmpty(charsetName, "Must set charset arg to character set of file to parse. Set to null to attempt to detect from HTML");
+            docData = decode(byteData, charsetName, null);
+        }
+        if (doc == null) {
+            doc = parser.parseInput(docData, baseUri);
+            doc.outputSettings().charset(charsetName);
+        }
+        return doc;
+    }
+
+    public static CharBuffer decode(ByteBuffer byteData, String charsetName, CharBuffer target) {
+        CharsetDecoder decoder = Charset.forName(charsetName).newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        int capacity = (int) Math.ceil(byteData.remaining() * (double) decoder.maxCharsPerByte());
+        CharBuffer chars = target != null && target.hasArray() && target.capacity() >= capacity ? target : CharBuffer.allocate(capacity);
+        chars.clear();
+        decoder.decode(byteData, chars, true);
+        decoder.flush(chars);
+        chars.flip();
+        return chars;
+    }
+
+    public static ByteBuffer readToByteBuffer(InputStream inStream, int maxSize) throws IOException {
+        Validate.isTrue(maxSize >= 0, "maxSize must be 0 (unlimited) or larger");
+        final boolean capped = maxSize > 0;
+        byte[] buffer = new byte[capped && maxSize < bufferSize ? maxSize : bufferSize];
+        ByteArrayOutputStream outStream = new ByteArrayOutputStream(capped ? maxSize : bufferSize);
+        int read;
+        int remaining = maxSize;
+        while (!Thread.interrupted()) {
+            read = inStream.read(buffer);
+            if (read == -1) break;
+            if (capped) {
+                if (read > remaining) {
+                    outStream.write(buffer, 0, remaining);
+                    break;
+                }
+                remaining -= read;
+            }
+            outStream.write(buffer, 0, read);
+        }
+        return ByteBuffer.wrap(outStream.toByteArray());
+    }
+
+    private static String charsetFromDocument(Document doc) {
+        Element meta = doc.select("meta[http-equiv=content-type], meta[charset]").first();
+        String foundCharset = null; 
+        if (meta != null) {
+            if (meta.hasAttr("http-equiv")) {
+                foundCharset = getCharsetFromContentType(meta.attr("content"));
+            }
+            if (foundCharset == null && meta.hasAttr("charset")) {
+                foundCharset = meta.attr("charset");
+            }
+        }
+        if (foundCharset == null && doc.childNodeSize() > 0 && doc.childNode(0) instanceof XmlDeclaration) {
+            XmlDeclaration prolog = (XmlDeclaration) doc.childNode(0);
+            if (prolog.name().equals("xml")) {
+                foundCharset = prolog.attr("encoding");
+            }
+        }
+        return validateCharset(foundCharset);
+    }
+
+    static ByteBuffer readToByteBuffer(InputStream inStream) throws IOException {
+        return readToByteBuffer(inStream, 0);
+    }
+
+    static ByteBuffer readFileToByteBuffer(File file) throws IOException {
+        RandomAccessFile randomAccessFile = null;
+        try {
+            randomAccessFile = new RandomAccessFile(file, "r");
+            byte[] bytes = new byte[(int) randomAccessFile.length()];
+            randomAccessFile.readFully(bytes);
+            return ByteBuffer.wrap(bytes);
+        } finally {
+            if (randomAccessFile != null)
+                randomAccessFile.close();
+        }
+    }
+
+    static ByteBuffer emptyByteBuffer() {
+        return ByteBuffer.allocate(0);
+    }
+
+    static String getCharsetFromContentType(String contentType) {
+        if (contentType == null) return null;
+        Matcher m = charsetPattern.matcher(contentType);
+        if (m.find()) {
+            String charset = m.group(1).trim();
+            charset = charset.replace("charset=", "");
+            return validateCharset(charset);
+        }
+        return null;
+    }
+
+    private static String validateCharset(String cs) {
+        if (cs == null || cs.length() == 0) return null;
+        cs = cs.trim().replaceAll("[\"']", "");
+        try {
+            if (Charset.isSupported(cs)) return cs;
+            cs = cs.toUpperCase(Locale.ENGLISH);
+            if (Charset.isSupported(cs)) return cs;
+        } catch (IllegalCharsetNameException e) {
+            
+        }
+        return null;
+    }
+
+    static String mimeBoundary() {
+        final StringBuilder mime = new StringBuilder(boundaryLength);
+        final Random rand = new Random();
+        for (int i = 0; i < boundaryLength; i++) {
+            mime.append(mimeBoundaryChars[rand.nextInt(mimeBoundaryChars.length)]);
+        }
+        return mime.toString();
+    }
+
+    private static String detectCharsetFromBom(ByteBuffer byteData, String charsetName) {
+        byteData.mark();
+        byte[] bom = new byte[4];
+        if (byteData.remaining() >= bom.length) {
+            byteData.get(bom);
+            byteData.rewind();
+        }
+        if (bom[0] == 0x00 && bom[1] == 0x00 && bom[2] == (byte) 0xFE && bom[3] == (byte) 0xFF || 
+            bom[0] == (byte) 0xFF && bom[1] == (byte) 0xFE && bom[2] == 0x00 && bom[3] == 0x00) { 
+            charsetName = "UTF-32"; 
+        } else if (bom[0] == (byte) 0xFE && bom[1] == (byte) 0xFF || 
+            bom[0] == (byte) 0xFF && bom[1] == (byte) 0xFE) {
+            charsetName = "UTF-16"; 
+        } else if (bom[0] == (byte) 0xEF && bom[1] == (byte) 0xBB && bom[2] == (byte) 0xBF) {
+            charsetName = "UTF-8"; 
+            byteData.position(3); 
+        }
+        return charsetName;
+    }
+
+}
\ No newline at end of file
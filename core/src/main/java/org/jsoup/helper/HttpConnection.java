@@ -2,6 +2,8 @@ package org.jsoup.helper;
 
 import org.jsoup.*;
 import org.jsoup.nodes.Document;
+import org.jsoup.parser.LinkExtractor;
+import org.jsoup.parser.SitemapExtractor;
 import org.jsoup.parser.Parser;
 import org.jsoup.parser.TokenQueue;
 import javax.net.ssl.*;
@@ -144,6 +146,24 @@ public class HttpConnection implements Connection {
         return this;
     }
 
+    public Connection keepAlive(boolean keepAlive) {
+        req.keepAlive(keepAlive);
+        return this;
+    }
+
+    private static int poolSize = -1;
+
+    public static synchronized int configurePool(int maxIdlePerHost, long idleTimeoutMillis) {
+        Validate.isTrue(maxIdlePerHost >= 0, "Max idle connections per host must be 0 or greater");
+        Validate.isTrue(idleTimeoutMillis >= 0, "Idle timeout milliseconds must be 0 or greater");
+        if (poolSize != -1) return poolSize;
+        poolSize = maxIdlePerHost;
+        System.setProperty("http.keepAlive", maxIdlePerHost > 0 ? "true" : "false");
+        System.setProperty("http.maxConnections", String.valueOf(maxIdlePerHost));
+        System.setProperty("http.keepAlive.time.server", String.valueOf(Math.max(1, idleTimeoutMillis / 1000)));
+        return poolSize;
+    }
+
     public Connection data(String key, String value) {
         req.data(KeyVal.create(key, value));
         return this;
@@ -446,6 +466,7 @@ public class HttpConnection implements Connection {
         private Parser parser;
         private boolean parserDefined = false;
         private boolean validateTSLCertificates = true;
+        private boolean keepAlive = false;
         private String postDataCharset = DataUtil.defaultCharset;
 
         private Request() {
@@ -514,6 +535,15 @@ public class HttpConnection implements Connection {
             validateTSLCertificates = value;
         }
 
+        public boolean keepAlive() {
+            return keepAlive;
+        }
+
+        public Connection.Request keepAlive(boolean keepAlive) {
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
         public Connection.Request ignoreHttpErrors(boolean ignoreHttpErrors) {
             this.ignoreHttpErrors = ignoreHttpErrors;
             return this;
@@ -573,9 +603,15 @@ public class HttpConnection implements Connection {
         private static final int MAX_REDIRECTS = 20;
         private static SSLSocketFactory sslSocketFactory;
         private static final String LOCATION = "Location";
+        private static final int MAX_DRAIN = 64 * 1024;
         private int statusCode;
         private String statusMessage;
         private ByteBuffer byteData;
+        private BoundedInputStream bodyStream;
+        private HttpURLConnection conn;
+        private boolean inputStreamRead = false;
+        private boolean hashed = false;
+        private long contentHash;
         private String charset;
         private String contentType;
         private boolean executed = false;
@@ -617,6 +653,7 @@ public class HttpConnection implements Connection {
             }
             HttpURLConnection conn = createConnection(req);
             Response res;
+            boolean handedOff = false;
             try {
                 conn.connect();
                 if (conn.getDoOutput()) writePost(req, conn.getOutputStream(), mimeBoundary);
@@ -637,6 +674,8 @@ public class HttpConnection implements Connection {
                     for (Map.Entry<String, String> cookie : res.cookies.entrySet()) {
                         req.cookie(cookie.getKey(), cookie.getValue());
                     }
+                    conn.disconnect();
+                    handedOff = true;
                     return execute(req, res);
                 }
                 if ((status < 200 || status >= 400) && !req.ignoreHttpErrors()) throw new HttpStatusException("HTTP error fetching URL", status, req.url().toString());
@@ -649,19 +688,17 @@ public class HttpConnection implements Connection {
                 }
                 res.charset = DataUtil.getCharsetFromContentType(res.contentType);
                 if (conn.getContentLength() != 0 && req.method() != HEAD) {
-                    InputStream bodyStream = null;
-                    try {
-                        bodyStream = conn.getErrorStream() != null ? conn.getErrorStream() : conn.getInputStream();
-                        if (res.hasHeaderWithValue(CONTENT_ENCODING, "gzip")) bodyStream = new GZIPInputStream(bodyStream);
-                        res.byteData = DataUtil.readToByteBuffer(bodyStream, req.maxBodySize());
-                    } finally {
-                        if (bodyStream != null) bodyStream.close();
-                    }
+                    InputStream bodyStream = conn.getErrorStream() != null ? conn.getErrorStream() : conn.getInputStream();
+                    if (res.hasHeaderWithValue(CONTENT_ENCODING, "gzip")) bodyStream = new GZIPInputStream(bodyStream);
+                    res.bodyStream = new BoundedInputStream(bodyStream, req.maxBodySize());
+                    res.conn = conn;
+                    handedOff = true;
                 } else {
                     res.byteData = DataUtil.emptyByteBuffer();
+                    handedOff = req.keepAlive();
                 }
             } finally {
-                conn.disconnect();
+                if (!handedOff) conn.disconnect();
             }
             res.executed = true;
             return res;
@@ -690,14 +727,99 @@ public class HttpConnection implements Connection {
 
         public Document parse() throws IOException {
             Validate.isTrue(executed, "Request must be executed (with .execute(), .get(), or .post() before parsing response");
-            Document doc = DataUtil.parseByteData(byteData, charset, url.toExternalForm(), req.parser());
-            byteData.rewind();
+            Document doc;
+            if (byteData != null) {
+                doc = DataUtil.parseByteData(byteData, charset, url.toExternalForm(), req.parser());
+                byteData.rewind();
+            } else {
+                Validate.isFalse(inputStreamRead, "Input stream already read and parsed, cannot re-read.");
+                inputStreamRead = true;
+                try {
+                    doc = DataUtil.parseInputStream(bodyStream, charset, url.toExternalForm(), req.parser());
+                } finally {
+                    safeClose();
+                }
+            }
             charset = doc.outputSettings().charset().name();
             return doc;
         }
 
-        public String body() {
+        public LinkExtractor extractLinks(LinkExtractor extractor) throws IOException {
+            Validate.isTrue(executed, "Request must be executed (with .execute(), .get(), or .post() before parsing response");
+            Validate.notNull(extractor, "LinkExtractor must not be null");
+            if (byteData != null) {
+                InputStream in = new ByteArrayInputStream(byteData.array(), 0, byteData.limit());
+                return DataUtil.extractLinks(in, charset, url.toExternalForm(), extractor);
+            }
+            Validate.isFalse(inputStreamRead, "Input stream already read and parsed, cannot re-read.");
+            inputStreamRead = true;
+            try {
+                return DataUtil.extractLinks(bodyStream, charset, url.toExternalForm(), extractor);
+            } finally {
+                safeClose();
+            }
+        }
+
+        public SitemapExtractor extractSitemap(SitemapExtractor extractor) throws IOException {
+            Validate.isTrue(executed, "Request must be executed (with .execute(), .get(), or .post() before parsing response");
+            Validate.notNull(extractor, "SitemapExtractor must not be null");
+            if (byteData != null) {
+                InputStream in = new ByteArrayInputStream(byteData.array(), 0, byteData.limit());
+                return DataUtil.extractSitemap(in, charset, url.toExternalForm(), extractor);
+            }
+            Validate.isFalse(inputStreamRead, "Input stream already read and parsed, cannot re-read.");
+            inputStreamRead = true;
+            try {
+                return DataUtil.extractSitemap(bodyStream, charset, url.toExternalForm(), extractor);
+            } finally {
+                safeClose();
+            }
+        }
+
+        private void prepareByteData() throws IOException {
+            if (byteData != null) return;
+            Validate.isFalse(inputStreamRead, "Request has already been read (with .parse())");
+            inputStreamRead = true;
+            try {
+                byteData = DataUtil.readToByteBuffer(bodyStream, 0);
+            } finally {
+                safeClose();
+            }
+        }
+
+        public void close() {
+            if (bodyStream == null) return;
+            inputStreamRead = true;
+            try {
+                byte[] buffer = new byte[4096];
+                int drained = 0, read;
+                while (drained < MAX_DRAIN && (read = bodyStream.read(buffer)) != -1) {
+                    drained += read;
+                }
+            } catch (IOException e) {
+            } finally {
+                safeClose();
+            }
+        }
+
+        private void safeClose() {
+            boolean reuse = req.keepAlive() && bodyStream.exhausted();
+            contentHash = bodyStream.hash();
+            hashed = true;
+            try {
+                bodyStream.close();
+            } catch (IOException e) {
+                reuse = false;
+            } finally {
+                bodyStream = null;
+            }
+            if (!reuse) conn.disconnect();
+            conn = null;
+        }
+
+        public String body() throws IOException {
             Validate.isTrue(executed, "Request must be executed (with .execute(), .get(), or .post() before getting response body");
+            prepareByteData();
             String body;
             if (charset == null) {
                 body = Charset.forName(DataUtil.defaultCharset).decode(byteData).toString();
@@ -708,8 +830,21 @@ public class HttpConnection implements Connection {
             return body;
         }
 
-        public byte[] bodyAsBytes() {
+        public long contentHash() throws IOException {
+            Validate.isTrue(executed, "Request must be executed (with .execute(), .get(), or .post() before getting response body");
+            if (!hashed) {
+                prepareByteData();
+                if (!hashed) {
+                    contentHash = BoundedInputStream.hash(BoundedInputStream.HASH_SEED, byteData.array(), 0, byteData.limit());
+                    hashed = true;
+                }
+            }
+            return contentHash;
+        }
+
+        public byte[] bodyAsBytes() throws IOException {
             Validate.isTrue(executed, "Request must be executed (with .execute(), .get(), or .post() before getting response body");
+            prepareByteData();
             return byteData.array();
         }
 
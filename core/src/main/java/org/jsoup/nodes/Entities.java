@@ -1,57 +1,97 @@
 package org.jsoup.nodes;
 
 import org.jsoup.SerializationException;
-import org.jsoup.helper.DataUtil;
 import org.jsoup.helper.StringUtil;
-import org.jsoup.parser.CharacterReader;
 import org.jsoup.parser.Parser;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.ByteBuffer;
-import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.HashMap;
 import static org.jsoup.nodes.Entities.EscapeMode.base;
 import static org.jsoup.nodes.Entities.EscapeMode.extended;
 
 public class Entities {
     private static final int empty = -1;
     private static final String emptyName = "";
-    static final int codepointRadix = 36;
 
     public enum EscapeMode {
-        xhtml("entities-xhtml.properties", 4),
-        base("entities-base.properties", 106),
-        extended("entities-full.properties", 2125);
-        private String[] nameKeys;
-        private int[] codeVals;
-        private int[] codeKeys; 
-        private String[] nameVals;
+        xhtml, base, extended;
+        private volatile EntityTable table;
 
-        EscapeMode(String file, int size) {
-            load(this, file, size);
+        private EntityTable table() {
+            EntityTable t = table;
+            if (t == null) {
+                synchronized (this) {
+                    t = table;
+                    if (t == null) table = t = load(this);
+                }
+            }
+            return t;
         }
-
         int codepointForName(final String name) {
-            int index = Arrays.binarySearch(nameKeys, name);
-            return index >= 0 ? codeVals[index] : empty;
+            final EntityTable t = table();
+            final int index = t.indexOf(name);
+            return index >= 0 ? t.codeVals[index] : empty;
         }
         String nameForCodepoint(final int codepoint) {
-            final int index = Arrays.binarySearch(codeKeys, codepoint);
+            final EntityTable t = table();
+            final int index = Arrays.binarySearch(t.codeKeys, codepoint);
             if (index >= 0) {
-                return (index < nameVals.length - 1 && codeKeys[index + 1] == codepoint) ? nameVals[index + 1] : nameVals[index];
+                return (index < t.nameVals.length - 1 && t.codeKeys[index + 1] == codepoint) ? t.nameVals[index + 1] : t.nameVals[index];
             }
             return emptyName;
         }
-        private int size() {
-            return nameKeys.length;
+        private int codepointsForName(final String name, final int[] codepoints) {
+            final EntityTable t = table();
+            final int index = t.indexOf(name);
+            if (index < 0) return 0;
+            codepoints[0] = t.codeVals[index];
+            if (t.secondVals[index] == empty) return 1;
+            codepoints[1] = t.secondVals[index];
+            return 2;
         }
     }
 
-    private static final HashMap<String, String> multipoints = new HashMap<String, String>(); 
+    private static final class EntityTable {
+        final String[] nameKeys;
+        final int[] codeVals;
+        final int[] secondVals;
+        final int[] codeKeys;
+        final String[] nameVals;
+        final int[] slots;
+        final int mask;
+
+        EntityTable(int size) {
+            nameKeys = new String[size];
+            codeVals = new int[size];
+            secondVals = new int[size];
+            codeKeys = new int[size];
+            nameVals = new String[size];
+            int capacity = Integer.highestOneBit(size * 2 - 1) << 1;
+            slots = new int[capacity];
+            mask = capacity - 1;
+        }
+
+        private static int slot(String name) {
+            int h = name.hashCode();
+            return h ^ (h >>> 16);
+        }
+
+        void index(int i) {
+            int s = slot(nameKeys[i]) & mask;
+            while (slots[s] != 0) s = (s + 1) & mask;
+            slots[s] = i + 1;
+        }
+
+        int indexOf(String name) {
+            int s = slot(name) & mask;
+            int i;
+            while ((i = slots[s]) != 0) {
+                if (nameKeys[i - 1].equals(name)) return i - 1;
+                s = (s + 1) & mask;
+            }
+            return -1;
+        }
+    }
 
     private Entities() {}
 
@@ -68,26 +108,17 @@ public class Entities {
     }
 
     public static String getByName(String name) {
-        String val = multipoints.get(name);
-        if (val != null) return val;
-        int codepoint = extended.codepointForName(name);
-        if (codepoint != empty) return new String(new int[]{codepoint}, 0, 1);
-        return emptyName;
+        final int[] codepoints = new int[2];
+        final int count = extended.codepointsForName(name, codepoints);
+        return count > 0 ? new String(codepoints, 0, count) : emptyName;
     }
 
     public static int codepointsForName(final String name, final int[] codepoints) {
-        String val = multipoints.get(name);
-        if (val != null) {
-            codepoints[0] = val.codePointAt(0);
-            codepoints[1] = val.codePointAt(1);
-            return 2;
-        }
-        int codepoint = extended.codepointForName(name);
-        if (codepoint != empty) {
-            codepoints[0] = codepoint;
-            return 1;
-        }
-        return 0;
+        return extended.codepointsForName(name, codepoints);
+    }
+
+    public static int codepointsForName(final String name, final int[] codepoints, final boolean baseOnly) {
+        return (baseOnly ? base : extended).codepointsForName(name, codepoints);
     }
 
     static String escape(String string, Document.OutputSettings out) {
@@ -208,58 +239,42 @@ public class Entities {
         }
     }
 
-    private static final char[] codeDelims = {',', ';'};
-
-    private static void load(EscapeMode e, String file, int size) {
-        e.nameKeys = new String[size];
-        e.codeVals = new int[size];
-        e.codeKeys = new int[size];
-        e.nameVals = new String[size];
-        InputStream stream = null;
-        if (file.equals("entities-base.properties")){
-            stream = new ByteArrayInputStream(EntitiesStream.getBase().getBytes(StandardCharsets.UTF_8));
-        } else if (file.equals("entities-full.properties")){
-            stream = new ByteArrayInputStream(EntitiesStream.getFull().getBytes(StandardCharsets.UTF_8));
-        } else if (file.equals("entities-xhtml.properties")){
-            stream = new ByteArrayInputStream(EntitiesStream.getXHTML().getBytes(StandardCharsets.UTF_8));
+    private static EntityTable load(EscapeMode e) {
+        final String names, codepoints, order;
+        switch (e) {
+            case xhtml:
+                names = EntitiesStream.xhtmlNames;
+                codepoints = EntitiesStream.xhtmlCodepoints;
+                order = EntitiesStream.xhtmlOrder;
+                break;
+            case base:
+                names = EntitiesStream.baseNames;
+                codepoints = EntitiesStream.baseCodepoints;
+                order = EntitiesStream.baseOrder;
+                break;
+            default:
+                names = EntitiesStream.fullNames;
+                codepoints = EntitiesStream.fullCodepoints;
+                order = EntitiesStream.fullOrder;
         }
-        if (stream == null) throw new IllegalStateException("Could not read resource " + file + ". Make sure you copy resources for " + Entities.class.getCanonicalName());
-        int i = 0;
-        try {
-            ByteBuffer bytes = DataUtil.readToByteBuffer(stream, 0);
-            String contents = Charset.forName("ascii").decode(bytes).toString();
-            CharacterReader reader = new CharacterReader(contents);
-            while (!reader.isEmpty()) {
-                final String name = reader.consumeTo('=');
-                reader.advance();
-                final int cp1 = Integer.parseInt(reader.consumeToAny(codeDelims), codepointRadix);
-                final char codeDelim = reader.current();
-                reader.advance();
-                final int cp2;
-                if (codeDelim == ',') {
-                    cp2 = Integer.parseInt(reader.consumeTo(';'), codepointRadix);
-                    reader.advance();
-                } else {
-                    cp2 = empty;
-                }
-                String indexS = reader.consumeTo('\n');
-                if (indexS.charAt(indexS.length() - 1) == '\r') {
-                    indexS = indexS.substring(0, indexS.length() - 1);
-                }
-                final int index = Integer.parseInt(indexS, codepointRadix);
-                reader.advance();
-                e.nameKeys[i] = name;
-                e.codeVals[i] = cp1;
-                e.codeKeys[index] = cp1;
-                e.nameVals[index] = name;
-                if (cp2 != empty) {
-                    multipoints.put(name, new String(new int[]{cp1, cp2}, 0, 2));
-                }
-                i++;
-            }
-        } catch (IOException err) {
-            throw new IllegalStateException("Error reading resource " + file);
+        final EntityTable t = new EntityTable(order.length());
+        int start = 0;
+        for (int i = 0; i < t.nameKeys.length; i++) {
+            int end = names.indexOf(' ', start);
+            if (end == -1) end = names.length();
+            final String name = names.substring(start, end);
+            start = end + 1;
+            final int cp1 = codepoints.charAt(i * 4) << 16 | codepoints.charAt(i * 4 + 1);
+            final int cp2 = codepoints.charAt(i * 4 + 2) << 16 | codepoints.charAt(i * 4 + 3);
+            final int index = order.charAt(i);
+            t.nameKeys[i] = name;
+            t.codeVals[i] = cp1;
+            t.secondVals[i] = cp2;
+            t.codeKeys[index] = cp1;
+            t.nameVals[index] = name;
+            t.index(i);
         }
+        return t;
     }
 
 }
\ No newline at end of file
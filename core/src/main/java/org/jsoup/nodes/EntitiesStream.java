@@ -0,0 +1,819 @@
+package org.jsoup.nodes;
+
+class EntitiesStream {
+
+    static final String baseNames =
+            "AElig AMP Aacute Acirc Agrave Aring Atilde Auml COPY Ccedil ETH Eacute Ecirc Egrave Euml GT Iacute " +
+            "Icirc Igrave Iuml LT Ntilde Oacute Ocirc Ograve Oslash Otilde Ouml QUOT REG THORN Uacute Ucirc " +
+            "Ugrave Uuml Yacute aacute acirc acute aelig agrave amp aring atilde auml brvbar ccedil cedil cent " +
+            "copy curren deg divide eacute ecirc egrave eth euml frac12 frac14 frac34 gt iacute icirc iexcl " +
+            "igrave iquest iuml laquo lt macr micro middot nbsp not ntilde oacute ocirc ograve ordf ordm oslash " +
+            "otilde ouml para plusmn pound quot raquo reg sect shy sup1 sup2 sup3 szlig thorn times uacute ucirc " +
+            "ugrave uml uuml yacute yen yuml";
+
+    static final String baseCodepoints =
+            "\000\306\uffff\uffff\000&\uffff\uffff\000\301\uffff\uffff\000\302\uffff\uffff\000\300\uffff\uffff" +
+            "\000\305\uffff\uffff\000\303\uffff\uffff\000\304\uffff\uffff\000\251\uffff\uffff\000\307\uffff\uffff" +
+            "\000\320\uffff\uffff\000\311\uffff\uffff\000\312\uffff\uffff\000\310\uffff\uffff\000\313\uffff\uffff" +
+            "\000>\uffff\uffff\000\315\uffff\uffff\000\316\uffff\uffff\000\314\uffff\uffff\000\317\uffff\uffff" +
+            "\000<\uffff\uffff\000\321\uffff\uffff\000\323\uffff\uffff\000\324\uffff\uffff\000\322\uffff\uffff" +
+            "\000\330\uffff\uffff\000\325\uffff\uffff\000\326\uffff\uffff\000\042\uffff\uffff\000\256\uffff\uffff" +
+            "\000\336\uffff\uffff\000\332\uffff\uffff\000\333\uffff\uffff\000\331\uffff\uffff\000\334\uffff\uffff" +
+            "\000\335\uffff\uffff\000\341\uffff\uffff\000\342\uffff\uffff\000\264\uffff\uffff\000\346\uffff\uffff" +
+            "\000\340\uffff\uffff\000&\uffff\uffff\000\345\uffff\uffff\000\343\uffff\uffff\000\344\uffff\uffff" +
+            "\000\246\uffff\uffff\000\347\uffff\uffff\000\270\uffff\uffff\000\242\uffff\uffff\000\251\uffff\uffff" +
+            "\000\244\uffff\uffff\000\260\uffff\uffff\000\367\uffff\uffff\000\351\uffff\uffff\000\352\uffff\uffff" +
+            "\000\350\uffff\uffff\000\360\uffff\uffff\000\353\uffff\uffff\000\275\uffff\uffff\000\274\uffff\uffff" +
+            "\000\276\uffff\uffff\000>\uffff\uffff\000\355\uffff\uffff\000\356\uffff\uffff\000\241\uffff\uffff" +
+            "\000\354\uffff\uffff\000\277\uffff\uffff\000\357\uffff\uffff\000\253\uffff\uffff\000<\uffff\uffff" +
+            "\000\257\uffff\uffff\000\265\uffff\uffff\000\267\uffff\uffff\000\240\uffff\uffff\000\254\uffff\uffff" +
+            "\000\361\uffff\uffff\000\363\uffff\uffff\000\364\uffff\uffff\000\362\uffff\uffff\000\252\uffff\uffff" +
+            "\000\272\uffff\uffff\000\370\uffff\uffff\000\365\uffff\uffff\000\366\uffff\uffff\000\266\uffff\uffff" +
+            "\000\261\uffff\uffff\000\243\uffff\uffff\000\042\uffff\uffff\000\273\uffff\uffff\000\256\uffff\uffff" +
+            "\000\247\uffff\uffff\000\255\uffff\uffff\000\271\uffff\uffff\000\262\uffff\uffff\000\263\uffff\uffff" +
+            "\000\337\uffff\uffff\000\376\uffff\uffff\000\327\uffff\uffff\000\372\uffff\uffff\000\373\uffff\uffff" +
+            "\000\371\uffff\uffff\000\250\uffff\uffff\000\374\uffff\uffff\000\375\uffff\uffff\000\245\uffff\uffff" +
+            "\000\377\uffff\uffff";
+
+    static final String baseOrder =
+            "0\002+,*/-.\0211:3425\0067869\004;=><B?@\000\027HDECFGKL\036PJ\003OMN\016Q\042\012\022\014\032aSTRZU" +
+            "'&(\007WX\011V)Y\024\005\031\037!\010\025[]^\134\023$b_` \033\013\001%\030\017\026#\034\035IhAdec" +
+            "\020fg\015i";
+
+    static final String fullNames =
+            "AElig AMP Aacute Abreve Acirc Acy Afr Agrave Alpha Amacr And Aogon Aopf ApplyFunction Aring Ascr " +
+            "Assign Atilde Auml Backslash Barv Barwed Bcy Because Bernoullis Beta Bfr Bopf Breve Bscr Bumpeq " +
+            "CHcy COPY Cacute Cap CapitalDifferentialD Cayleys Ccaron Ccedil Ccirc Cconint Cdot Cedilla " +
+            "CenterDot Cfr Chi CircleDot CircleMinus CirclePlus CircleTimes ClockwiseContourIntegral " +
+            "CloseCurlyDoubleQuote CloseCurlyQuote Colon Colone Congruent Conint ContourIntegral Copf Coproduct " +
+            "CounterClockwiseContourIntegral Cross Cscr Cup CupCap DD DDotrahd DJcy DScy DZcy Dagger Darr Dashv " +
+            "Dcaron Dcy Del Delta Dfr DiacriticalAcute DiacriticalDot DiacriticalDoubleAcute DiacriticalGrave " +
+            "DiacriticalTilde Diamond DifferentialD Dopf Dot DotDot DotEqual DoubleContourIntegral DoubleDot " +
+            "DoubleDownArrow DoubleLeftArrow DoubleLeftRightArrow DoubleLeftTee DoubleLongLeftArrow " +
+            "DoubleLongLeftRightArrow DoubleLongRightArrow DoubleRightArrow DoubleRightTee DoubleUpArrow " +
+            "DoubleUpDownArrow DoubleVerticalBar DownArrow DownArrowBar DownArrowUpArrow DownBreve " +
+            "DownLeftRightVector DownLeftTeeVector DownLeftVector DownLeftVectorBar DownRightTeeVector " +
+            "DownRightVector DownRightVectorBar DownTee DownTeeArrow Downarrow Dscr Dstrok ENG ETH Eacute Ecaron " +
+            "Ecirc Ecy Edot Efr Egrave Element Emacr EmptySmallSquare EmptyVerySmallSquare Eogon Eopf Epsilon " +
+            "Equal EqualTilde Equilibrium Escr Esim Eta Euml Exists ExponentialE Fcy Ffr FilledSmallSquare " +
+            "FilledVerySmallSquare Fopf ForAll Fouriertrf Fscr GJcy GT Gamma Gammad Gbreve Gcedil Gcirc Gcy Gdot " +
+            "Gfr Gg Gopf GreaterEqual GreaterEqualLess GreaterFullEqual GreaterGreater GreaterLess " +
+            "GreaterSlantEqual GreaterTilde Gscr Gt HARDcy Hacek Hat Hcirc Hfr HilbertSpace Hopf HorizontalLine " +
+            "Hscr Hstrok HumpDownHump HumpEqual IEcy IJlig IOcy Iacute Icirc Icy Idot Ifr Igrave Im Imacr " +
+            "ImaginaryI Implies Int Integral Intersection InvisibleComma InvisibleTimes Iogon Iopf Iota Iscr " +
+            "Itilde Iukcy Iuml Jcirc Jcy Jfr Jopf Jscr Jsercy Jukcy KHcy KJcy Kappa Kcedil Kcy Kfr Kopf Kscr " +
+            "LJcy LT Lacute Lambda Lang Laplacetrf Larr Lcaron Lcedil Lcy LeftAngleBracket LeftArrow " +
+            "LeftArrowBar LeftArrowRightArrow LeftCeiling LeftDoubleBracket LeftDownTeeVector LeftDownVector " +
+            "LeftDownVectorBar LeftFloor LeftRightArrow LeftRightVector LeftTee LeftTeeArrow LeftTeeVector " +
+            "LeftTriangle LeftTriangleBar LeftTriangleEqual LeftUpDownVector LeftUpTeeVector LeftUpVector " +
+            "LeftUpVectorBar LeftVector LeftVectorBar Leftarrow Leftrightarrow LessEqualGreater LessFullEqual " +
+            "LessGreater LessLess LessSlantEqual LessTilde Lfr Ll Lleftarrow Lmidot LongLeftArrow " +
+            "LongLeftRightArrow LongRightArrow Longleftarrow Longleftrightarrow Longrightarrow Lopf " +
+            "LowerLeftArrow LowerRightArrow Lscr Lsh Lstrok Lt Map Mcy MediumSpace Mellintrf Mfr MinusPlus Mopf " +
+            "Mscr Mu NJcy Nacute Ncaron Ncedil Ncy NegativeMediumSpace NegativeThickSpace NegativeThinSpace " +
+            "NegativeVeryThinSpace NestedGreaterGreater NestedLessLess NewLine Nfr NoBreak NonBreakingSpace Nopf " +
+            "Not NotCongruent NotCupCap NotDoubleVerticalBar NotElement NotEqual NotEqualTilde NotExists " +
+            "NotGreater NotGreaterEqual NotGreaterFullEqual NotGreaterGreater NotGreaterLess " +
+            "NotGreaterSlantEqual NotGreaterTilde NotHumpDownHump NotHumpEqual NotLeftTriangle " +
+            "NotLeftTriangleBar NotLeftTriangleEqual NotLess NotLessEqual NotLessGreater NotLessLess " +
+            "NotLessSlantEqual NotLessTilde NotNestedGreaterGreater NotNestedLessLess NotPrecedes " +
+            "NotPrecedesEqual NotPrecedesSlantEqual NotReverseElement NotRightTriangle NotRightTriangleBar " +
+            "NotRightTriangleEqual NotSquareSubset NotSquareSubsetEqual NotSquareSuperset NotSquareSupersetEqual " +
+            "NotSubset NotSubsetEqual NotSucceeds NotSucceedsEqual NotSucceedsSlantEqual NotSucceedsTilde " +
+            "NotSuperset NotSupersetEqual NotTilde NotTildeEqual NotTildeFullEqual NotTildeTilde NotVerticalBar " +
+            "Nscr Ntilde Nu OElig Oacute Ocirc Ocy Odblac Ofr Ograve Omacr Omega Omicron Oopf " +
+            "OpenCurlyDoubleQuote OpenCurlyQuote Or Oscr Oslash Otilde Otimes Ouml OverBar OverBrace OverBracket " +
+            "OverParenthesis PartialD Pcy Pfr Phi Pi PlusMinus Poincareplane Popf Pr Precedes PrecedesEqual " +
+            "PrecedesSlantEqual PrecedesTilde Prime Product Proportion Proportional Pscr Psi QUOT Qfr Qopf Qscr " +
+            "RBarr REG Racute Rang Rarr Rarrtl Rcaron Rcedil Rcy Re ReverseElement ReverseEquilibrium " +
+            "ReverseUpEquilibrium Rfr Rho RightAngleBracket RightArrow RightArrowBar RightArrowLeftArrow " +
+            "RightCeiling RightDoubleBracket RightDownTeeVector RightDownVector RightDownVectorBar RightFloor " +
+            "RightTee RightTeeArrow RightTeeVector RightTriangle RightTriangleBar RightTriangleEqual " +
+            "RightUpDownVector RightUpTeeVector RightUpVector RightUpVectorBar RightVector RightVectorBar " +
+            "Rightarrow Ropf RoundImplies Rrightarrow Rscr Rsh RuleDelayed SHCHcy SHcy SOFTcy Sacute Sc Scaron " +
+            "Scedil Scirc Scy Sfr ShortDownArrow ShortLeftArrow ShortRightArrow ShortUpArrow Sigma SmallCircle " +
+            "Sopf Sqrt Square SquareIntersection SquareSubset SquareSubsetEqual SquareSuperset " +
+            "SquareSupersetEqual SquareUnion Sscr Star Sub Subset SubsetEqual Succeeds SucceedsEqual " +
+            "SucceedsSlantEqual SucceedsTilde SuchThat Sum Sup Superset SupersetEqual Supset THORN TRADE TSHcy " +
+            "TScy Tab Tau Tcaron Tcedil Tcy Tfr Therefore Theta ThickSpace ThinSpace Tilde TildeEqual " +
+            "TildeFullEqual TildeTilde Topf TripleDot Tscr Tstrok Uacute Uarr Uarrocir Ubrcy Ubreve Ucirc Ucy " +
+            "Udblac Ufr Ugrave Umacr UnderBar UnderBrace UnderBracket UnderParenthesis Union UnionPlus Uogon " +
+            "Uopf UpArrow UpArrowBar UpArrowDownArrow UpDownArrow UpEquilibrium UpTee UpTeeArrow Uparrow " +
+            "Updownarrow UpperLeftArrow UpperRightArrow Upsi Upsilon Uring Uscr Utilde Uuml VDash Vbar Vcy Vdash " +
+            "Vdashl Vee Verbar Vert VerticalBar VerticalLine VerticalSeparator VerticalTilde VeryThinSpace Vfr " +
+            "Vopf Vscr Vvdash Wcirc Wedge Wfr Wopf Wscr Xfr Xi Xopf Xscr YAcy YIcy YUcy Yacute Ycirc Ycy Yfr " +
+            "Yopf Yscr Yuml ZHcy Zacute Zcaron Zcy Zdot ZeroWidthSpace Zeta Zfr Zopf Zscr aacute abreve ac acE " +
+            "acd acirc acute acy aelig af afr agrave alefsym aleph alpha amacr amalg amp and andand andd " +
+            "andslope andv ang ange angle angmsd angmsdaa angmsdab angmsdac angmsdad angmsdae angmsdaf angmsdag " +
+            "angmsdah angrt angrtvb angrtvbd angsph angst angzarr aogon aopf ap apE apacir ape apid apos approx " +
+            "approxeq aring ascr ast asymp asympeq atilde auml awconint awint bNot backcong backepsilon " +
+            "backprime backsim backsimeq barvee barwed barwedge bbrk bbrktbrk bcong bcy bdquo becaus because " +
+            "bemptyv bepsi bernou beta beth between bfr bigcap bigcirc bigcup bigodot bigoplus bigotimes " +
+            "bigsqcup bigstar bigtriangledown bigtriangleup biguplus bigvee bigwedge bkarow blacklozenge " +
+            "blacksquare blacktriangle blacktriangledown blacktriangleleft blacktriangleright blank blk12 blk14 " +
+            "blk34 block bne bnequiv bnot bopf bot bottom bowtie boxDL boxDR boxDl boxDr boxH boxHD boxHU boxHd " +
+            "boxHu boxUL boxUR boxUl boxUr boxV boxVH boxVL boxVR boxVh boxVl boxVr boxbox boxdL boxdR boxdl " +
+            "boxdr boxh boxhD boxhU boxhd boxhu boxminus boxplus boxtimes boxuL boxuR boxul boxur boxv boxvH " +
+            "boxvL boxvR boxvh boxvl boxvr bprime breve brvbar bscr bsemi bsim bsime bsol bsolb bsolhsub bull " +
+            "bullet bump bumpE bumpe bumpeq cacute cap capand capbrcup capcap capcup capdot caps caret caron " +
+            "ccaps ccaron ccedil ccirc ccups ccupssm cdot cedil cemptyv cent centerdot cfr chcy check checkmark " +
+            "chi cir cirE circ circeq circlearrowleft circlearrowright circledR circledS circledast circledcirc " +
+            "circleddash cire cirfnint cirmid cirscir clubs clubsuit colon colone coloneq comma commat comp " +
+            "compfn complement complexes cong congdot conint copf coprod copy copysr crarr cross cscr csub csube " +
+            "csup csupe ctdot cudarrl cudarrr cuepr cuesc cularr cularrp cup cupbrcap cupcap cupcup cupdot cupor " +
+            "cups curarr curarrm curlyeqprec curlyeqsucc curlyvee curlywedge curren curvearrowleft " +
+            "curvearrowright cuvee cuwed cwconint cwint cylcty dArr dHar dagger daleth darr dash dashv dbkarow " +
+            "dblac dcaron dcy dd ddagger ddarr ddotseq deg delta demptyv dfisht dfr dharl dharr diam diamond " +
+            "diamondsuit diams die digamma disin div divide divideontimes divonx djcy dlcorn dlcrop dollar dopf " +
+            "dot doteq doteqdot dotminus dotplus dotsquare doublebarwedge downarrow downdownarrows " +
+            "downharpoonleft downharpoonright drbkarow drcorn drcrop dscr dscy dsol dstrok dtdot dtri dtrif " +
+            "duarr duhar dwangle dzcy dzigrarr eDDot eDot eacute easter ecaron ecir ecirc ecolon ecy edot ee " +
+            "efDot efr eg egrave egs egsdot el elinters ell els elsdot emacr empty emptyset emptyv emsp emsp13 " +
+            "emsp14 eng ensp eogon eopf epar eparsl eplus epsi epsilon epsiv eqcirc eqcolon eqsim eqslantgtr " +
+            "eqslantless equals equest equiv equivDD eqvparsl erDot erarr escr esdot esim eta eth euml euro excl " +
+            "exist expectation exponentiale fallingdotseq fcy female ffilig fflig ffllig ffr filig fjlig flat " +
+            "fllig fltns fnof fopf forall fork forkv fpartint frac12 frac13 frac14 frac15 frac16 frac18 frac23 " +
+            "frac25 frac34 frac35 frac38 frac45 frac56 frac58 frac78 frasl frown fscr gE gEl gacute gamma gammad " +
+            "gap gbreve gcirc gcy gdot ge gel geq geqq geqslant ges gescc gesdot gesdoto gesdotol gesl gesles " +
+            "gfr gg ggg gimel gjcy gl glE gla glj gnE gnap gnapprox gne gneq gneqq gnsim gopf grave gscr gsim " +
+            "gsime gsiml gt gtcc gtcir gtdot gtlPar gtquest gtrapprox gtrarr gtrdot gtreqless gtreqqless gtrless " +
+            "gtrsim gvertneqq gvnE hArr hairsp half hamilt hardcy harr harrcir harrw hbar hcirc hearts heartsuit " +
+            "hellip hercon hfr hksearow hkswarow hoarr homtht hookleftarrow hookrightarrow hopf horbar hscr " +
+            "hslash hstrok hybull hyphen iacute ic icirc icy iecy iexcl iff ifr igrave ii iiiint iiint iinfin " +
+            "iiota ijlig imacr image imagline imagpart imath imof imped in incare infin infintie inodot int " +
+            "intcal integers intercal intlarhk intprod iocy iogon iopf iota iprod iquest iscr isin isinE isindot " +
+            "isins isinsv isinv it itilde iukcy iuml jcirc jcy jfr jmath jopf jscr jsercy jukcy kappa kappav " +
+            "kcedil kcy kfr kgreen khcy kjcy kopf kscr lAarr lArr lAtail lBarr lE lEg lHar lacute laemptyv " +
+            "lagran lambda lang langd langle lap laquo larr larrb larrbfs larrfs larrhk larrlp larrpl larrsim " +
+            "larrtl lat latail late lates lbarr lbbrk lbrace lbrack lbrke lbrksld lbrkslu lcaron lcedil lceil " +
+            "lcub lcy ldca ldquo ldquor ldrdhar ldrushar ldsh le leftarrow leftarrowtail leftharpoondown " +
+            "leftharpoonup leftleftarrows leftrightarrow leftrightarrows leftrightharpoons leftrightsquigarrow " +
+            "leftthreetimes leg leq leqq leqslant les lescc lesdot lesdoto lesdotor lesg lesges lessapprox " +
+            "lessdot lesseqgtr lesseqqgtr lessgtr lesssim lfisht lfloor lfr lg lgE lhard lharu lharul lhblk ljcy " +
+            "ll llarr llcorner llhard lltri lmidot lmoust lmoustache lnE lnap lnapprox lne lneq lneqq lnsim " +
+            "loang loarr lobrk longleftarrow longleftrightarrow longmapsto longrightarrow looparrowleft " +
+            "looparrowright lopar lopf loplus lotimes lowast lowbar loz lozenge lozf lpar lparlt lrarr lrcorner " +
+            "lrhar lrhard lrm lrtri lsaquo lscr lsh lsim lsime lsimg lsqb lsquo lsquor lstrok lt ltcc ltcir " +
+            "ltdot lthree ltimes ltlarr ltquest ltrPar ltri ltrie ltrif lurdshar luruhar lvertneqq lvnE mDDot " +
+            "macr male malt maltese map mapsto mapstodown mapstoleft mapstoup marker mcomma mcy mdash " +
+            "measuredangle mfr mho micro mid midast midcir middot minus minusb minusd minusdu mlcp mldr mnplus " +
+            "models mopf mp mscr mstpos mu multimap mumap nGg nGt nGtv nLeftarrow nLeftrightarrow nLl nLt nLtv " +
+            "nRightarrow nVDash nVdash nabla nacute nang nap napE napid napos napprox natur natural naturals " +
+            "nbsp nbump nbumpe ncap ncaron ncedil ncong ncongdot ncup ncy ndash ne neArr nearhk nearr nearrow " +
+            "nedot nequiv nesear nesim nexist nexists nfr ngE nge ngeq ngeqq ngeqslant nges ngsim ngt ngtr nhArr " +
+            "nharr nhpar ni nis nisd niv njcy nlArr nlE nlarr nldr nle nleftarrow nleftrightarrow nleq nleqq " +
+            "nleqslant nles nless nlsim nlt nltri nltrie nmid nopf not notin notinE notindot notinva notinvb " +
+            "notinvc notni notniva notnivb notnivc npar nparallel nparsl npart npolint npr nprcue npre nprec " +
+            "npreceq nrArr nrarr nrarrc nrarrw nrightarrow nrtri nrtrie nsc nsccue nsce nscr nshortmid " +
+            "nshortparallel nsim nsime nsimeq nsmid nspar nsqsube nsqsupe nsub nsubE nsube nsubset nsubseteq " +
+            "nsubseteqq nsucc nsucceq nsup nsupE nsupe nsupset nsupseteq nsupseteqq ntgl ntilde ntlg " +
+            "ntriangleleft ntrianglelefteq ntriangleright ntrianglerighteq nu num numero numsp nvDash nvHarr " +
+            "nvap nvdash nvge nvgt nvinfin nvlArr nvle nvlt nvltrie nvrArr nvrtrie nvsim nwArr nwarhk nwarr " +
+            "nwarrow nwnear oS oacute oast ocir ocirc ocy odash odblac odiv odot odsold oelig ofcir ofr ogon " +
+            "ograve ogt ohbar ohm oint olarr olcir olcross oline olt omacr omega omicron omid ominus oopf opar " +
+            "operp oplus or orarr ord order orderof ordf ordm origof oror orslope orv oscr oslash osol otilde " +
+            "otimes otimesas ouml ovbar par para parallel parsim parsl part pcy percnt period permil perp " +
+            "pertenk pfr phi phiv phmmat phone pi pitchfork piv planck planckh plankv plus plusacir plusb " +
+            "pluscir plusdo plusdu pluse plusmn plussim plustwo pm pointint popf pound pr prE prap prcue pre " +
+            "prec precapprox preccurlyeq preceq precnapprox precneqq precnsim precsim prime primes prnE prnap " +
+            "prnsim prod profalar profline profsurf prop propto prsim prurel pscr psi puncsp qfr qint qopf " +
+            "qprime qscr quaternions quatint quest questeq quot rAarr rArr rAtail rBarr rHar race racute radic " +
+            "raemptyv rang rangd range rangle raquo rarr rarrap rarrb rarrbfs rarrc rarrfs rarrhk rarrlp rarrpl " +
+            "rarrsim rarrtl rarrw ratail ratio rationals rbarr rbbrk rbrace rbrack rbrke rbrksld rbrkslu rcaron " +
+            "rcedil rceil rcub rcy rdca rdldhar rdquo rdquor rdsh real realine realpart reals rect reg rfisht " +
+            "rfloor rfr rhard rharu rharul rho rhov rightarrow rightarrowtail rightharpoondown rightharpoonup " +
+            "rightleftarrows rightleftharpoons rightrightarrows rightsquigarrow rightthreetimes ring " +
+            "risingdotseq rlarr rlhar rlm rmoust rmoustache rnmid roang roarr robrk ropar ropf roplus rotimes " +
+            "rpar rpargt rppolint rrarr rsaquo rscr rsh rsqb rsquo rsquor rthree rtimes rtri rtrie rtrif " +
+            "rtriltri ruluhar rx sacute sbquo sc scE scap scaron sccue sce scedil scirc scnE scnap scnsim " +
+            "scpolint scsim scy sdot sdotb sdote seArr searhk searr searrow sect semi seswar setminus setmn sext " +
+            "sfr sfrown sharp shchcy shcy shortmid shortparallel shy sigma sigmaf sigmav sim simdot sime simeq " +
+            "simg simgE siml simlE simne simplus simrarr slarr smallsetminus smashp smeparsl smid smile smt smte " +
+            "smtes softcy sol solb solbar sopf spades spadesuit spar sqcap sqcaps sqcup sqcups sqsub sqsube " +
+            "sqsubset sqsubseteq sqsup sqsupe sqsupset sqsupseteq squ square squarf squf srarr sscr ssetmn " +
+            "ssmile sstarf star starf straightepsilon straightphi strns sub subE subdot sube subedot submult " +
+            "subnE subne subplus subrarr subset subseteq subseteqq subsetneq subsetneqq subsim subsub subsup " +
+            "succ succapprox succcurlyeq succeq succnapprox succneqq succnsim succsim sum sung sup sup1 sup2 " +
+            "sup3 supE supdot supdsub supe supedot suphsol suphsub suplarr supmult supnE supne supplus supset " +
+            "supseteq supseteqq supsetneq supsetneqq supsim supsub supsup swArr swarhk swarr swarrow swnwar " +
+            "szlig target tau tbrk tcaron tcedil tcy tdot telrec tfr there4 therefore theta thetasym thetav " +
+            "thickapprox thicksim thinsp thkap thksim thorn tilde times timesb timesbar timesd tint toea top " +
+            "topbot topcir topf topfork tosa tprime trade triangle triangledown triangleleft trianglelefteq " +
+            "triangleq triangleright trianglerighteq tridot trie triminus triplus trisb tritime trpezium tscr " +
+            "tscy tshcy tstrok twixt twoheadleftarrow twoheadrightarrow uArr uHar uacute uarr ubrcy ubreve ucirc " +
+            "ucy udarr udblac udhar ufisht ufr ugrave uharl uharr uhblk ulcorn ulcorner ulcrop ultri umacr uml " +
+            "uogon uopf uparrow updownarrow upharpoonleft upharpoonright uplus upsi upsih upsilon upuparrows " +
+            "urcorn urcorner urcrop uring urtri uscr utdot utilde utri utrif uuarr uuml uwangle vArr vBar vBarv " +
+            "vDash vangrt varepsilon varkappa varnothing varphi varpi varpropto varr varrho varsigma " +
+            "varsubsetneq varsubsetneqq varsupsetneq varsupsetneqq vartheta vartriangleleft vartriangleright vcy " +
+            "vdash vee veebar veeeq vellip verbar vert vfr vltri vnsub vnsup vopf vprop vrtri vscr vsubnE vsubne " +
+            "vsupnE vsupne vzigzag wcirc wedbar wedge wedgeq weierp wfr wopf wp wr wreath wscr xcap xcirc xcup " +
+            "xdtri xfr xhArr xharr xi xlArr xlarr xmap xnis xodot xopf xoplus xotime xrArr xrarr xscr xsqcup " +
+            "xuplus xutri xvee xwedge yacute yacy ycirc ycy yen yfr yicy yopf yscr yucy yuml zacute zcaron zcy " +
+            "zdot zeetrf zeta zfr zhcy zigrarr zopf zscr zwj zwnj";
+
+    static final String fullCodepoints =
+            "\000\306\uffff\uffff\000&\uffff\uffff\000\301\uffff\uffff\000\u0102\uffff\uffff\000\302\uffff\uffff" +
+            "\000\u0410\uffff\uffff\001\ud504\uffff\uffff\000\300\uffff\uffff\000\u0391\uffff\uffff\000\u0100" +
+            "\uffff\uffff\000\u2a53\uffff\uffff\000\u0104\uffff\uffff\001\ud538\uffff\uffff\000\u2061\uffff\uffff" +
+            "\000\305\uffff\uffff\001\ud49c\uffff\uffff\000\u2254\uffff\uffff\000\303\uffff\uffff\000\304\uffff" +
+            "\uffff\000\u2216\uffff\uffff\000\u2ae7\uffff\uffff\000\u2306\uffff\uffff\000\u0411\uffff\uffff\000" +
+            "\u2235\uffff\uffff\000\u212c\uffff\uffff\000\u0392\uffff\uffff\001\ud505\uffff\uffff\001\ud539\uffff" +
+            "\uffff\000\u02d8\uffff\uffff\000\u212c\uffff\uffff\000\u224e\uffff\uffff\000\u0427\uffff\uffff\000" +
+            "\251\uffff\uffff\000\u0106\uffff\uffff\000\u22d2\uffff\uffff\000\u2145\uffff\uffff\000\u212d\uffff" +
+            "\uffff\000\u010c\uffff\uffff\000\307\uffff\uffff\000\u0108\uffff\uffff\000\u2230\uffff\uffff\000" +
+            "\u010a\uffff\uffff\000\270\uffff\uffff\000\267\uffff\uffff\000\u212d\uffff\uffff\000\u03a7\uffff" +
+            "\uffff\000\u2299\uffff\uffff\000\u2296\uffff\uffff\000\u2295\uffff\uffff\000\u2297\uffff\uffff\000" +
+            "\u2232\uffff\uffff\000\u201d\uffff\uffff\000\u2019\uffff\uffff\000\u2237\uffff\uffff\000\u2a74\uffff" +
+            "\uffff\000\u2261\uffff\uffff\000\u222f\uffff\uffff\000\u222e\uffff\uffff\000\u2102\uffff\uffff\000" +
+            "\u2210\uffff\uffff\000\u2233\uffff\uffff\000\u2a2f\uffff\uffff\001\ud49e\uffff\uffff\000\u22d3\uffff" +
+            "\uffff\000\u224d\uffff\uffff\000\u2145\uffff\uffff\000\u2911\uffff\uffff\000\u0402\uffff\uffff\000" +
+            "\u0405\uffff\uffff\000\u040f\uffff\uffff\000\u2021\uffff\uffff\000\u21a1\uffff\uffff\000\u2ae4\uffff" +
+            "\uffff\000\u010e\uffff\uffff\000\u0414\uffff\uffff\000\u2207\uffff\uffff\000\u0394\uffff\uffff\001" +
+            "\ud507\uffff\uffff\000\264\uffff\uffff\000\u02d9\uffff\uffff\000\u02dd\uffff\uffff\000`\uffff\uffff" +
+            "\000\u02dc\uffff\uffff\000\u22c4\uffff\uffff\000\u2146\uffff\uffff\001\ud53b\uffff\uffff\000\250" +
+            "\uffff\uffff\000\u20dc\uffff\uffff\000\u2250\uffff\uffff\000\u222f\uffff\uffff\000\250\uffff\uffff" +
+            "\000\u21d3\uffff\uffff\000\u21d0\uffff\uffff\000\u21d4\uffff\uffff\000\u2ae4\uffff\uffff\000\u27f8" +
+            "\uffff\uffff\000\u27fa\uffff\uffff\000\u27f9\uffff\uffff\000\u21d2\uffff\uffff\000\u22a8\uffff\uffff" +
+            "\000\u21d1\uffff\uffff\000\u21d5\uffff\uffff\000\u2225\uffff\uffff\000\u2193\uffff\uffff\000\u2913" +
+            "\uffff\uffff\000\u21f5\uffff\uffff\000\u0311\uffff\uffff\000\u2950\uffff\uffff\000\u295e\uffff\uffff" +
+            "\000\u21bd\uffff\uffff\000\u2956\uffff\uffff\000\u295f\uffff\uffff\000\u21c1\uffff\uffff\000\u2957" +
+            "\uffff\uffff\000\u22a4\uffff\uffff\000\u21a7\uffff\uffff\000\u21d3\uffff\uffff\001\ud49f\uffff\uffff" +
+            "\000\u0110\uffff\uffff\000\u014a\uffff\uffff\000\320\uffff\uffff\000\311\uffff\uffff\000\u011a\uffff" +
+            "\uffff\000\312\uffff\uffff\000\u042d\uffff\uffff\000\u0116\uffff\uffff\001\ud508\uffff\uffff\000\310" +
+            "\uffff\uffff\000\u2208\uffff\uffff\000\u0112\uffff\uffff\000\u25fb\uffff\uffff\000\u25ab\uffff\uffff" +
+            "\000\u0118\uffff\uffff\001\ud53c\uffff\uffff\000\u0395\uffff\uffff\000\u2a75\uffff\uffff\000\u2242" +
+            "\uffff\uffff\000\u21cc\uffff\uffff\000\u2130\uffff\uffff\000\u2a73\uffff\uffff\000\u0397\uffff\uffff" +
+            "\000\313\uffff\uffff\000\u2203\uffff\uffff\000\u2147\uffff\uffff\000\u0424\uffff\uffff\001\ud509" +
+            "\uffff\uffff\000\u25fc\uffff\uffff\000\u25aa\uffff\uffff\001\ud53d\uffff\uffff\000\u2200\uffff\uffff" +
+            "\000\u2131\uffff\uffff\000\u2131\uffff\uffff\000\u0403\uffff\uffff\000>\uffff\uffff\000\u0393\uffff" +
+            "\uffff\000\u03dc\uffff\uffff\000\u011e\uffff\uffff\000\u0122\uffff\uffff\000\u011c\uffff\uffff\000" +
+            "\u0413\uffff\uffff\000\u0120\uffff\uffff\001\ud50a\uffff\uffff\000\u22d9\uffff\uffff\001\ud53e\uffff" +
+            "\uffff\000\u2265\uffff\uffff\000\u22db\uffff\uffff\000\u2267\uffff\uffff\000\u2aa2\uffff\uffff\000" +
+            "\u2277\uffff\uffff\000\u2a7e\uffff\uffff\000\u2273\uffff\uffff\001\ud4a2\uffff\uffff\000\u226b\uffff" +
+            "\uffff\000\u042a\uffff\uffff\000\u02c7\uffff\uffff\000^\uffff\uffff\000\u0124\uffff\uffff\000\u210c" +
+            "\uffff\uffff\000\u210b\uffff\uffff\000\u210d\uffff\uffff\000\u2500\uffff\uffff\000\u210b\uffff\uffff" +
+            "\000\u0126\uffff\uffff\000\u224e\uffff\uffff\000\u224f\uffff\uffff\000\u0415\uffff\uffff\000\u0132" +
+            "\uffff\uffff\000\u0401\uffff\uffff\000\315\uffff\uffff\000\316\uffff\uffff\000\u0418\uffff\uffff\000" +
+            "\u0130\uffff\uffff\000\u2111\uffff\uffff\000\314\uffff\uffff\000\u2111\uffff\uffff\000\u012a\uffff" +
+            "\uffff\000\u2148\uffff\uffff\000\u21d2\uffff\uffff\000\u222c\uffff\uffff\000\u222b\uffff\uffff\000" +
+            "\u22c2\uffff\uffff\000\u2063\uffff\uffff\000\u2062\uffff\uffff\000\u012e\uffff\uffff\001\ud540\uffff" +
+            "\uffff\000\u0399\uffff\uffff\000\u2110\uffff\uffff\000\u0128\uffff\uffff\000\u0406\uffff\uffff\000" +
+            "\317\uffff\uffff\000\u0134\uffff\uffff\000\u0419\uffff\uffff\001\ud50d\uffff\uffff\001\ud541\uffff" +
+            "\uffff\001\ud4a5\uffff\uffff\000\u0408\uffff\uffff\000\u0404\uffff\uffff\000\u0425\uffff\uffff\000" +
+            "\u040c\uffff\uffff\000\u039a\uffff\uffff\000\u0136\uffff\uffff\000\u041a\uffff\uffff\001\ud50e\uffff" +
+            "\uffff\001\ud542\uffff\uffff\001\ud4a6\uffff\uffff\000\u0409\uffff\uffff\000<\uffff\uffff\000\u0139" +
+            "\uffff\uffff\000\u039b\uffff\uffff\000\u27ea\uffff\uffff\000\u2112\uffff\uffff\000\u219e\uffff\uffff" +
+            "\000\u013d\uffff\uffff\000\u013b\uffff\uffff\000\u041b\uffff\uffff\000\u27e8\uffff\uffff\000\u2190" +
+            "\uffff\uffff\000\u21e4\uffff\uffff\000\u21c6\uffff\uffff\000\u2308\uffff\uffff\000\u27e6\uffff\uffff" +
+            "\000\u2961\uffff\uffff\000\u21c3\uffff\uffff\000\u2959\uffff\uffff\000\u230a\uffff\uffff\000\u2194" +
+            "\uffff\uffff\000\u294e\uffff\uffff\000\u22a3\uffff\uffff\000\u21a4\uffff\uffff\000\u295a\uffff\uffff" +
+            "\000\u22b2\uffff\uffff\000\u29cf\uffff\uffff\000\u22b4\uffff\uffff\000\u2951\uffff\uffff\000\u2960" +
+            "\uffff\uffff\000\u21bf\uffff\uffff\000\u2958\uffff\uffff\000\u21bc\uffff\uffff\000\u2952\uffff\uffff" +
+            "\000\u21d0\uffff\uffff\000\u21d4\uffff\uffff\000\u22da\uffff\uffff\000\u2266\uffff\uffff\000\u2276" +
+            "\uffff\uffff\000\u2aa1\uffff\uffff\000\u2a7d\uffff\uffff\000\u2272\uffff\uffff\001\ud50f\uffff\uffff" +
+            "\000\u22d8\uffff\uffff\000\u21da\uffff\uffff\000\u013f\uffff\uffff\000\u27f5\uffff\uffff\000\u27f7" +
+            "\uffff\uffff\000\u27f6\uffff\uffff\000\u27f8\uffff\uffff\000\u27fa\uffff\uffff\000\u27f9\uffff\uffff" +
+            "\001\ud543\uffff\uffff\000\u2199\uffff\uffff\000\u2198\uffff\uffff\000\u2112\uffff\uffff\000\u21b0" +
+            "\uffff\uffff\000\u0141\uffff\uffff\000\u226a\uffff\uffff\000\u2905\uffff\uffff\000\u041c\uffff\uffff" +
+            "\000\u205f\uffff\uffff\000\u2133\uffff\uffff\001\ud510\uffff\uffff\000\u2213\uffff\uffff\001\ud544" +
+            "\uffff\uffff\000\u2133\uffff\uffff\000\u039c\uffff\uffff\000\u040a\uffff\uffff\000\u0143\uffff\uffff" +
+            "\000\u0147\uffff\uffff\000\u0145\uffff\uffff\000\u041d\uffff\uffff\000\u200b\uffff\uffff\000\u200b" +
+            "\uffff\uffff\000\u200b\uffff\uffff\000\u200b\uffff\uffff\000\u226b\uffff\uffff\000\u226a\uffff\uffff" +
+            "\000\012\uffff\uffff\001\ud511\uffff\uffff\000\u2060\uffff\uffff\000\240\uffff\uffff\000\u2115\uffff" +
+            "\uffff\000\u2aec\uffff\uffff\000\u2262\uffff\uffff\000\u226d\uffff\uffff\000\u2226\uffff\uffff\000" +
+            "\u2209\uffff\uffff\000\u2260\uffff\uffff\000\u2242\000\u0338\000\u2204\uffff\uffff\000\u226f\uffff" +
+            "\uffff\000\u2271\uffff\uffff\000\u2267\000\u0338\000\u226b\000\u0338\000\u2279\uffff\uffff\000\u2a7e" +
+            "\000\u0338\000\u2275\uffff\uffff\000\u224e\000\u0338\000\u224f\000\u0338\000\u22ea\uffff\uffff\000" +
+            "\u29cf\000\u0338\000\u22ec\uffff\uffff\000\u226e\uffff\uffff\000\u2270\uffff\uffff\000\u2278\uffff" +
+            "\uffff\000\u226a\000\u0338\000\u2a7d\000\u0338\000\u2274\uffff\uffff\000\u2aa2\000\u0338\000\u2aa1" +
+            "\000\u0338\000\u2280\uffff\uffff\000\u2aaf\000\u0338\000\u22e0\uffff\uffff\000\u220c\uffff\uffff\000" +
+            "\u22eb\uffff\uffff\000\u29d0\000\u0338\000\u22ed\uffff\uffff\000\u228f\000\u0338\000\u22e2\uffff" +
+            "\uffff\000\u2290\000\u0338\000\u22e3\uffff\uffff\000\u2282\000\u20d2\000\u2288\uffff\uffff\000\u2281" +
+            "\uffff\uffff\000\u2ab0\000\u0338\000\u22e1\uffff\uffff\000\u227f\000\u0338\000\u2283\000\u20d2\000" +
+            "\u2289\uffff\uffff\000\u2241\uffff\uffff\000\u2244\uffff\uffff\000\u2247\uffff\uffff\000\u2249\uffff" +
+            "\uffff\000\u2224\uffff\uffff\001\ud4a9\uffff\uffff\000\321\uffff\uffff\000\u039d\uffff\uffff\000" +
+            "\u0152\uffff\uffff\000\323\uffff\uffff\000\324\uffff\uffff\000\u041e\uffff\uffff\000\u0150\uffff" +
+            "\uffff\001\ud512\uffff\uffff\000\322\uffff\uffff\000\u014c\uffff\uffff\000\u03a9\uffff\uffff\000" +
+            "\u039f\uffff\uffff\001\ud546\uffff\uffff\000\u201c\uffff\uffff\000\u2018\uffff\uffff\000\u2a54\uffff" +
+            "\uffff\001\ud4aa\uffff\uffff\000\330\uffff\uffff\000\325\uffff\uffff\000\u2a37\uffff\uffff\000\326" +
+            "\uffff\uffff\000\u203e\uffff\uffff\000\u23de\uffff\uffff\000\u23b4\uffff\uffff\000\u23dc\uffff\uffff" +
+            "\000\u2202\uffff\uffff\000\u041f\uffff\uffff\001\ud513\uffff\uffff\000\u03a6\uffff\uffff\000\u03a0" +
+            "\uffff\uffff\000\261\uffff\uffff\000\u210c\uffff\uffff\000\u2119\uffff\uffff\000\u2abb\uffff\uffff" +
+            "\000\u227a\uffff\uffff\000\u2aaf\uffff\uffff\000\u227c\uffff\uffff\000\u227e\uffff\uffff\000\u2033" +
+            "\uffff\uffff\000\u220f\uffff\uffff\000\u2237\uffff\uffff\000\u221d\uffff\uffff\001\ud4ab\uffff\uffff" +
+            "\000\u03a8\uffff\uffff\000\042\uffff\uffff\001\ud514\uffff\uffff\000\u211a\uffff\uffff\001\ud4ac" +
+            "\uffff\uffff\000\u2910\uffff\uffff\000\256\uffff\uffff\000\u0154\uffff\uffff\000\u27eb\uffff\uffff" +
+            "\000\u21a0\uffff\uffff\000\u2916\uffff\uffff\000\u0158\uffff\uffff\000\u0156\uffff\uffff\000\u0420" +
+            "\uffff\uffff\000\u211c\uffff\uffff\000\u220b\uffff\uffff\000\u21cb\uffff\uffff\000\u296f\uffff\uffff" +
+            "\000\u211c\uffff\uffff\000\u03a1\uffff\uffff\000\u27e9\uffff\uffff\000\u2192\uffff\uffff\000\u21e5" +
+            "\uffff\uffff\000\u21c4\uffff\uffff\000\u2309\uffff\uffff\000\u27e7\uffff\uffff\000\u295d\uffff\uffff" +
+            "\000\u21c2\uffff\uffff\000\u2955\uffff\uffff\000\u230b\uffff\uffff\000\u22a2\uffff\uffff\000\u21a6" +
+            "\uffff\uffff\000\u295b\uffff\uffff\000\u22b3\uffff\uffff\000\u29d0\uffff\uffff\000\u22b5\uffff\uffff" +
+            "\000\u294f\uffff\uffff\000\u295c\uffff\uffff\000\u21be\uffff\uffff\000\u2954\uffff\uffff\000\u21c0" +
+            "\uffff\uffff\000\u2953\uffff\uffff\000\u21d2\uffff\uffff\000\u211d\uffff\uffff\000\u2970\uffff\uffff" +
+            "\000\u21db\uffff\uffff\000\u211b\uffff\uffff\000\u21b1\uffff\uffff\000\u29f4\uffff\uffff\000\u0429" +
+            "\uffff\uffff\000\u0428\uffff\uffff\000\u042c\uffff\uffff\000\u015a\uffff\uffff\000\u2abc\uffff\uffff" +
+            "\000\u0160\uffff\uffff\000\u015e\uffff\uffff\000\u015c\uffff\uffff\000\u0421\uffff\uffff\001\ud516" +
+            "\uffff\uffff\000\u2193\uffff\uffff\000\u2190\uffff\uffff\000\u2192\uffff\uffff\000\u2191\uffff\uffff" +
+            "\000\u03a3\uffff\uffff\000\u2218\uffff\uffff\001\ud54a\uffff\uffff\000\u221a\uffff\uffff\000\u25a1" +
+            "\uffff\uffff\000\u2293\uffff\uffff\000\u228f\uffff\uffff\000\u2291\uffff\uffff\000\u2290\uffff\uffff" +
+            "\000\u2292\uffff\uffff\000\u2294\uffff\uffff\001\ud4ae\uffff\uffff\000\u22c6\uffff\uffff\000\u22d0" +
+            "\uffff\uffff\000\u22d0\uffff\uffff\000\u2286\uffff\uffff\000\u227b\uffff\uffff\000\u2ab0\uffff\uffff" +
+            "\000\u227d\uffff\uffff\000\u227f\uffff\uffff\000\u220b\uffff\uffff\000\u2211\uffff\uffff\000\u22d1" +
+            "\uffff\uffff\000\u2283\uffff\uffff\000\u2287\uffff\uffff\000\u22d1\uffff\uffff\000\336\uffff\uffff" +
+            "\000\u2122\uffff\uffff\000\u040b\uffff\uffff\000\u0426\uffff\uffff\000\011\uffff\uffff\000\u03a4" +
+            "\uffff\uffff\000\u0164\uffff\uffff\000\u0162\uffff\uffff\000\u0422\uffff\uffff\001\ud517\uffff\uffff" +
+            "\000\u2234\uffff\uffff\000\u0398\uffff\uffff\000\u205f\000\u200a\000\u2009\uffff\uffff\000\u223c" +
+            "\uffff\uffff\000\u2243\uffff\uffff\000\u2245\uffff\uffff\000\u2248\uffff\uffff\001\ud54b\uffff\uffff" +
+            "\000\u20db\uffff\uffff\001\ud4af\uffff\uffff\000\u0166\uffff\uffff\000\332\uffff\uffff\000\u219f" +
+            "\uffff\uffff\000\u2949\uffff\uffff\000\u040e\uffff\uffff\000\u016c\uffff\uffff\000\333\uffff\uffff" +
+            "\000\u0423\uffff\uffff\000\u0170\uffff\uffff\001\ud518\uffff\uffff\000\331\uffff\uffff\000\u016a" +
+            "\uffff\uffff\000_\uffff\uffff\000\u23df\uffff\uffff\000\u23b5\uffff\uffff\000\u23dd\uffff\uffff\000" +
+            "\u22c3\uffff\uffff\000\u228e\uffff\uffff\000\u0172\uffff\uffff\001\ud54c\uffff\uffff\000\u2191\uffff" +
+            "\uffff\000\u2912\uffff\uffff\000\u21c5\uffff\uffff\000\u2195\uffff\uffff\000\u296e\uffff\uffff\000" +
+            "\u22a5\uffff\uffff\000\u21a5\uffff\uffff\000\u21d1\uffff\uffff\000\u21d5\uffff\uffff\000\u2196\uffff" +
+            "\uffff\000\u2197\uffff\uffff\000\u03d2\uffff\uffff\000\u03a5\uffff\uffff\000\u016e\uffff\uffff\001" +
+            "\ud4b0\uffff\uffff\000\u0168\uffff\uffff\000\334\uffff\uffff\000\u22ab\uffff\uffff\000\u2aeb\uffff" +
+            "\uffff\000\u0412\uffff\uffff\000\u22a9\uffff\uffff\000\u2ae6\uffff\uffff\000\u22c1\uffff\uffff\000" +
+            "\u2016\uffff\uffff\000\u2016\uffff\uffff\000\u2223\uffff\uffff\000|\uffff\uffff\000\u2758\uffff" +
+            "\uffff\000\u2240\uffff\uffff\000\u200a\uffff\uffff\001\ud519\uffff\uffff\001\ud54d\uffff\uffff\001" +
+            "\ud4b1\uffff\uffff\000\u22aa\uffff\uffff\000\u0174\uffff\uffff\000\u22c0\uffff\uffff\001\ud51a\uffff" +
+            "\uffff\001\ud54e\uffff\uffff\001\ud4b2\uffff\uffff\001\ud51b\uffff\uffff\000\u039e\uffff\uffff\001" +
+            "\ud54f\uffff\uffff\001\ud4b3\uffff\uffff\000\u042f\uffff\uffff\000\u0407\uffff\uffff\000\u042e\uffff" +
+            "\uffff\000\335\uffff\uffff\000\u0176\uffff\uffff\000\u042b\uffff\uffff\001\ud51c\uffff\uffff\001" +
+            "\ud550\uffff\uffff\001\ud4b4\uffff\uffff\000\u0178\uffff\uffff\000\u0416\uffff\uffff\000\u0179\uffff" +
+            "\uffff\000\u017d\uffff\uffff\000\u0417\uffff\uffff\000\u017b\uffff\uffff\000\u200b\uffff\uffff\000" +
+            "\u0396\uffff\uffff\000\u2128\uffff\uffff\000\u2124\uffff\uffff\001\ud4b5\uffff\uffff\000\341\uffff" +
+            "\uffff\000\u0103\uffff\uffff\000\u223e\uffff\uffff\000\u223e\000\u0333\000\u223f\uffff\uffff\000\342" +
+            "\uffff\uffff\000\264\uffff\uffff\000\u0430\uffff\uffff\000\346\uffff\uffff\000\u2061\uffff\uffff\001" +
+            "\ud51e\uffff\uffff\000\340\uffff\uffff\000\u2135\uffff\uffff\000\u2135\uffff\uffff\000\u03b1\uffff" +
+            "\uffff\000\u0101\uffff\uffff\000\u2a3f\uffff\uffff\000&\uffff\uffff\000\u2227\uffff\uffff\000\u2a55" +
+            "\uffff\uffff\000\u2a5c\uffff\uffff\000\u2a58\uffff\uffff\000\u2a5a\uffff\uffff\000\u2220\uffff\uffff" +
+            "\000\u29a4\uffff\uffff\000\u2220\uffff\uffff\000\u2221\uffff\uffff\000\u29a8\uffff\uffff\000\u29a9" +
+            "\uffff\uffff\000\u29aa\uffff\uffff\000\u29ab\uffff\uffff\000\u29ac\uffff\uffff\000\u29ad\uffff\uffff" +
+            "\000\u29ae\uffff\uffff\000\u29af\uffff\uffff\000\u221f\uffff\uffff\000\u22be\uffff\uffff\000\u299d" +
+            "\uffff\uffff\000\u2222\uffff\uffff\000\305\uffff\uffff\000\u237c\uffff\uffff\000\u0105\uffff\uffff" +
+            "\001\ud552\uffff\uffff\000\u2248\uffff\uffff\000\u2a70\uffff\uffff\000\u2a6f\uffff\uffff\000\u224a" +
+            "\uffff\uffff\000\u224b\uffff\uffff\000'\uffff\uffff\000\u2248\uffff\uffff\000\u224a\uffff\uffff\000" +
+            "\345\uffff\uffff\001\ud4b6\uffff\uffff\000*\uffff\uffff\000\u2248\uffff\uffff\000\u224d\uffff\uffff" +
+            "\000\343\uffff\uffff\000\344\uffff\uffff\000\u2233\uffff\uffff\000\u2a11\uffff\uffff\000\u2aed\uffff" +
+            "\uffff\000\u224c\uffff\uffff\000\u03f6\uffff\uffff\000\u2035\uffff\uffff\000\u223d\uffff\uffff\000" +
+            "\u22cd\uffff\uffff\000\u22bd\uffff\uffff\000\u2305\uffff\uffff\000\u2305\uffff\uffff\000\u23b5\uffff" +
+            "\uffff\000\u23b6\uffff\uffff\000\u224c\uffff\uffff\000\u0431\uffff\uffff\000\u201e\uffff\uffff\000" +
+            "\u2235\uffff\uffff\000\u2235\uffff\uffff\000\u29b0\uffff\uffff\000\u03f6\uffff\uffff\000\u212c\uffff" +
+            "\uffff\000\u03b2\uffff\uffff\000\u2136\uffff\uffff\000\u226c\uffff\uffff\001\ud51f\uffff\uffff\000" +
+            "\u22c2\uffff\uffff\000\u25ef\uffff\uffff\000\u22c3\uffff\uffff\000\u2a00\uffff\uffff\000\u2a01\uffff" +
+            "\uffff\000\u2a02\uffff\uffff\000\u2a06\uffff\uffff\000\u2605\uffff\uffff\000\u25bd\uffff\uffff\000" +
+            "\u25b3\uffff\uffff\000\u2a04\uffff\uffff\000\u22c1\uffff\uffff\000\u22c0\uffff\uffff\000\u290d\uffff" +
+            "\uffff\000\u29eb\uffff\uffff\000\u25aa\uffff\uffff\000\u25b4\uffff\uffff\000\u25be\uffff\uffff\000" +
+            "\u25c2\uffff\uffff\000\u25b8\uffff\uffff\000\u2423\uffff\uffff\000\u2592\uffff\uffff\000\u2591\uffff" +
+            "\uffff\000\u2593\uffff\uffff\000\u2588\uffff\uffff\000=\000\u20e5\000\u2261\000\u20e5\000\u2310" +
+            "\uffff\uffff\001\ud553\uffff\uffff\000\u22a5\uffff\uffff\000\u22a5\uffff\uffff\000\u22c8\uffff\uffff" +
+            "\000\u2557\uffff\uffff\000\u2554\uffff\uffff\000\u2556\uffff\uffff\000\u2553\uffff\uffff\000\u2550" +
+            "\uffff\uffff\000\u2566\uffff\uffff\000\u2569\uffff\uffff\000\u2564\uffff\uffff\000\u2567\uffff\uffff" +
+            "\000\u255d\uffff\uffff\000\u255a\uffff\uffff\000\u255c\uffff\uffff\000\u2559\uffff\uffff\000\u2551" +
+            "\uffff\uffff\000\u256c\uffff\uffff\000\u2563\uffff\uffff\000\u2560\uffff\uffff\000\u256b\uffff\uffff" +
+            "\000\u2562\uffff\uffff\000\u255f\uffff\uffff\000\u29c9\uffff\uffff\000\u2555\uffff\uffff\000\u2552" +
+            "\uffff\uffff\000\u2510\uffff\uffff\000\u250c\uffff\uffff\000\u2500\uffff\uffff\000\u2565\uffff\uffff" +
+            "\000\u2568\uffff\uffff\000\u252c\uffff\uffff\000\u2534\uffff\uffff\000\u229f\uffff\uffff\000\u229e" +
+            "\uffff\uffff\000\u22a0\uffff\uffff\000\u255b\uffff\uffff\000\u2558\uffff\uffff\000\u2518\uffff\uffff" +
+            "\000\u2514\uffff\uffff\000\u2502\uffff\uffff\000\u256a\uffff\uffff\000\u2561\uffff\uffff\000\u255e" +
+            "\uffff\uffff\000\u253c\uffff\uffff\000\u2524\uffff\uffff\000\u251c\uffff\uffff\000\u2035\uffff\uffff" +
+            "\000\u02d8\uffff\uffff\000\246\uffff\uffff\001\ud4b7\uffff\uffff\000\u204f\uffff\uffff\000\u223d" +
+            "\uffff\uffff\000\u22cd\uffff\uffff\000\134\uffff\uffff\000\u29c5\uffff\uffff\000\u27c8\uffff\uffff" +
+            "\000\u2022\uffff\uffff\000\u2022\uffff\uffff\000\u224e\uffff\uffff\000\u2aae\uffff\uffff\000\u224f" +
+            "\uffff\uffff\000\u224f\uffff\uffff\000\u0107\uffff\uffff\000\u2229\uffff\uffff\000\u2a44\uffff\uffff" +
+            "\000\u2a49\uffff\uffff\000\u2a4b\uffff\uffff\000\u2a47\uffff\uffff\000\u2a40\uffff\uffff\000\u2229" +
+            "\000\ufe00\000\u2041\uffff\uffff\000\u02c7\uffff\uffff\000\u2a4d\uffff\uffff\000\u010d\uffff\uffff" +
+            "\000\347\uffff\uffff\000\u0109\uffff\uffff\000\u2a4c\uffff\uffff\000\u2a50\uffff\uffff\000\u010b" +
+            "\uffff\uffff\000\270\uffff\uffff\000\u29b2\uffff\uffff\000\242\uffff\uffff\000\267\uffff\uffff\001" +
+            "\ud520\uffff\uffff\000\u0447\uffff\uffff\000\u2713\uffff\uffff\000\u2713\uffff\uffff\000\u03c7\uffff" +
+            "\uffff\000\u25cb\uffff\uffff\000\u29c3\uffff\uffff\000\u02c6\uffff\uffff\000\u2257\uffff\uffff\000" +
+            "\u21ba\uffff\uffff\000\u21bb\uffff\uffff\000\256\uffff\uffff\000\u24c8\uffff\uffff\000\u229b\uffff" +
+            "\uffff\000\u229a\uffff\uffff\000\u229d\uffff\uffff\000\u2257\uffff\uffff\000\u2a10\uffff\uffff\000" +
+            "\u2aef\uffff\uffff\000\u29c2\uffff\uffff\000\u2663\uffff\uffff\000\u2663\uffff\uffff\000:\uffff" +
+            "\uffff\000\u2254\uffff\uffff\000\u2254\uffff\uffff\000,\uffff\uffff\000@\uffff\uffff\000\u2201\uffff" +
+            "\uffff\000\u2218\uffff\uffff\000\u2201\uffff\uffff\000\u2102\uffff\uffff\000\u2245\uffff\uffff\000" +
+            "\u2a6d\uffff\uffff\000\u222e\uffff\uffff\001\ud554\uffff\uffff\000\u2210\uffff\uffff\000\251\uffff" +
+            "\uffff\000\u2117\uffff\uffff\000\u21b5\uffff\uffff\000\u2717\uffff\uffff\001\ud4b8\uffff\uffff\000" +
+            "\u2acf\uffff\uffff\000\u2ad1\uffff\uffff\000\u2ad0\uffff\uffff\000\u2ad2\uffff\uffff\000\u22ef\uffff" +
+            "\uffff\000\u2938\uffff\uffff\000\u2935\uffff\uffff\000\u22de\uffff\uffff\000\u22df\uffff\uffff\000" +
+            "\u21b6\uffff\uffff\000\u293d\uffff\uffff\000\u222a\uffff\uffff\000\u2a48\uffff\uffff\000\u2a46\uffff" +
+            "\uffff\000\u2a4a\uffff\uffff\000\u228d\uffff\uffff\000\u2a45\uffff\uffff\000\u222a\000\ufe00\000" +
+            "\u21b7\uffff\uffff\000\u293c\uffff\uffff\000\u22de\uffff\uffff\000\u22df\uffff\uffff\000\u22ce\uffff" +
+            "\uffff\000\u22cf\uffff\uffff\000\244\uffff\uffff\000\u21b6\uffff\uffff\000\u21b7\uffff\uffff\000" +
+            "\u22ce\uffff\uffff\000\u22cf\uffff\uffff\000\u2232\uffff\uffff\000\u2231\uffff\uffff\000\u232d\uffff" +
+            "\uffff\000\u21d3\uffff\uffff\000\u2965\uffff\uffff\000\u2020\uffff\uffff\000\u2138\uffff\uffff\000" +
+            "\u2193\uffff\uffff\000\u2010\uffff\uffff\000\u22a3\uffff\uffff\000\u290f\uffff\uffff\000\u02dd\uffff" +
+            "\uffff\000\u010f\uffff\uffff\000\u0434\uffff\uffff\000\u2146\uffff\uffff\000\u2021\uffff\uffff\000" +
+            "\u21ca\uffff\uffff\000\u2a77\uffff\uffff\000\260\uffff\uffff\000\u03b4\uffff\uffff\000\u29b1\uffff" +
+            "\uffff\000\u297f\uffff\uffff\001\ud521\uffff\uffff\000\u21c3\uffff\uffff\000\u21c2\uffff\uffff\000" +
+            "\u22c4\uffff\uffff\000\u22c4\uffff\uffff\000\u2666\uffff\uffff\000\u2666\uffff\uffff\000\250\uffff" +
+            "\uffff\000\u03dd\uffff\uffff\000\u22f2\uffff\uffff\000\367\uffff\uffff\000\367\uffff\uffff\000\u22c7" +
+            "\uffff\uffff\000\u22c7\uffff\uffff\000\u0452\uffff\uffff\000\u231e\uffff\uffff\000\u230d\uffff\uffff" +
+            "\000$\uffff\uffff\001\ud555\uffff\uffff\000\u02d9\uffff\uffff\000\u2250\uffff\uffff\000\u2251\uffff" +
+            "\uffff\000\u2238\uffff\uffff\000\u2214\uffff\uffff\000\u22a1\uffff\uffff\000\u2306\uffff\uffff\000" +
+            "\u2193\uffff\uffff\000\u21ca\uffff\uffff\000\u21c3\uffff\uffff\000\u21c2\uffff\uffff\000\u2910\uffff" +
+            "\uffff\000\u231f\uffff\uffff\000\u230c\uffff\uffff\001\ud4b9\uffff\uffff\000\u0455\uffff\uffff\000" +
+            "\u29f6\uffff\uffff\000\u0111\uffff\uffff\000\u22f1\uffff\uffff\000\u25bf\uffff\uffff\000\u25be\uffff" +
+            "\uffff\000\u21f5\uffff\uffff\000\u296f\uffff\uffff\000\u29a6\uffff\uffff\000\u045f\uffff\uffff\000" +
+            "\u27ff\uffff\uffff\000\u2a77\uffff\uffff\000\u2251\uffff\uffff\000\351\uffff\uffff\000\u2a6e\uffff" +
+            "\uffff\000\u011b\uffff\uffff\000\u2256\uffff\uffff\000\352\uffff\uffff\000\u2255\uffff\uffff\000" +
+            "\u044d\uffff\uffff\000\u0117\uffff\uffff\000\u2147\uffff\uffff\000\u2252\uffff\uffff\001\ud522\uffff" +
+            "\uffff\000\u2a9a\uffff\uffff\000\350\uffff\uffff\000\u2a96\uffff\uffff\000\u2a98\uffff\uffff\000" +
+            "\u2a99\uffff\uffff\000\u23e7\uffff\uffff\000\u2113\uffff\uffff\000\u2a95\uffff\uffff\000\u2a97\uffff" +
+            "\uffff\000\u0113\uffff\uffff\000\u2205\uffff\uffff\000\u2205\uffff\uffff\000\u2205\uffff\uffff\000" +
+            "\u2003\uffff\uffff\000\u2004\uffff\uffff\000\u2005\uffff\uffff\000\u014b\uffff\uffff\000\u2002\uffff" +
+            "\uffff\000\u0119\uffff\uffff\001\ud556\uffff\uffff\000\u22d5\uffff\uffff\000\u29e3\uffff\uffff\000" +
+            "\u2a71\uffff\uffff\000\u03b5\uffff\uffff\000\u03b5\uffff\uffff\000\u03f5\uffff\uffff\000\u2256\uffff" +
+            "\uffff\000\u2255\uffff\uffff\000\u2242\uffff\uffff\000\u2a96\uffff\uffff\000\u2a95\uffff\uffff\000=" +
+            "\uffff\uffff\000\u225f\uffff\uffff\000\u2261\uffff\uffff\000\u2a78\uffff\uffff\000\u29e5\uffff\uffff" +
+            "\000\u2253\uffff\uffff\000\u2971\uffff\uffff\000\u212f\uffff\uffff\000\u2250\uffff\uffff\000\u2242" +
+            "\uffff\uffff\000\u03b7\uffff\uffff\000\360\uffff\uffff\000\353\uffff\uffff\000\u20ac\uffff\uffff\000" +
+            "!\uffff\uffff\000\u2203\uffff\uffff\000\u2130\uffff\uffff\000\u2147\uffff\uffff\000\u2252\uffff" +
+            "\uffff\000\u0444\uffff\uffff\000\u2640\uffff\uffff\000\ufb03\uffff\uffff\000\ufb00\uffff\uffff\000" +
+            "\ufb04\uffff\uffff\001\ud523\uffff\uffff\000\ufb01\uffff\uffff\000f\000j\000\u266d\uffff\uffff\000" +
+            "\ufb02\uffff\uffff\000\u25b1\uffff\uffff\000\u0192\uffff\uffff\001\ud557\uffff\uffff\000\u2200\uffff" +
+            "\uffff\000\u22d4\uffff\uffff\000\u2ad9\uffff\uffff\000\u2a0d\uffff\uffff\000\275\uffff\uffff\000" +
+            "\u2153\uffff\uffff\000\274\uffff\uffff\000\u2155\uffff\uffff\000\u2159\uffff\uffff\000\u215b\uffff" +
+            "\uffff\000\u2154\uffff\uffff\000\u2156\uffff\uffff\000\276\uffff\uffff\000\u2157\uffff\uffff\000" +
+            "\u215c\uffff\uffff\000\u2158\uffff\uffff\000\u215a\uffff\uffff\000\u215d\uffff\uffff\000\u215e\uffff" +
+            "\uffff\000\u2044\uffff\uffff\000\u2322\uffff\uffff\001\ud4bb\uffff\uffff\000\u2267\uffff\uffff\000" +
+            "\u2a8c\uffff\uffff\000\u01f5\uffff\uffff\000\u03b3\uffff\uffff\000\u03dd\uffff\uffff\000\u2a86\uffff" +
+            "\uffff\000\u011f\uffff\uffff\000\u011d\uffff\uffff\000\u0433\uffff\uffff\000\u0121\uffff\uffff\000" +
+            "\u2265\uffff\uffff\000\u22db\uffff\uffff\000\u2265\uffff\uffff\000\u2267\uffff\uffff\000\u2a7e\uffff" +
+            "\uffff\000\u2a7e\uffff\uffff\000\u2aa9\uffff\uffff\000\u2a80\uffff\uffff\000\u2a82\uffff\uffff\000" +
+            "\u2a84\uffff\uffff\000\u22db\000\ufe00\000\u2a94\uffff\uffff\001\ud524\uffff\uffff\000\u226b\uffff" +
+            "\uffff\000\u22d9\uffff\uffff\000\u2137\uffff\uffff\000\u0453\uffff\uffff\000\u2277\uffff\uffff\000" +
+            "\u2a92\uffff\uffff\000\u2aa5\uffff\uffff\000\u2aa4\uffff\uffff\000\u2269\uffff\uffff\000\u2a8a\uffff" +
+            "\uffff\000\u2a8a\uffff\uffff\000\u2a88\uffff\uffff\000\u2a88\uffff\uffff\000\u2269\uffff\uffff\000" +
+            "\u22e7\uffff\uffff\001\ud558\uffff\uffff\000`\uffff\uffff\000\u210a\uffff\uffff\000\u2273\uffff" +
+            "\uffff\000\u2a8e\uffff\uffff\000\u2a90\uffff\uffff\000>\uffff\uffff\000\u2aa7\uffff\uffff\000\u2a7a" +
+            "\uffff\uffff\000\u22d7\uffff\uffff\000\u2995\uffff\uffff\000\u2a7c\uffff\uffff\000\u2a86\uffff\uffff" +
+            "\000\u2978\uffff\uffff\000\u22d7\uffff\uffff\000\u22db\uffff\uffff\000\u2a8c\uffff\uffff\000\u2277" +
+            "\uffff\uffff\000\u2273\uffff\uffff\000\u2269\000\ufe00\000\u2269\000\ufe00\000\u21d4\uffff\uffff\000" +
+            "\u200a\uffff\uffff\000\275\uffff\uffff\000\u210b\uffff\uffff\000\u044a\uffff\uffff\000\u2194\uffff" +
+            "\uffff\000\u2948\uffff\uffff\000\u21ad\uffff\uffff\000\u210f\uffff\uffff\000\u0125\uffff\uffff\000" +
+            "\u2665\uffff\uffff\000\u2665\uffff\uffff\000\u2026\uffff\uffff\000\u22b9\uffff\uffff\001\ud525\uffff" +
+            "\uffff\000\u2925\uffff\uffff\000\u2926\uffff\uffff\000\u21ff\uffff\uffff\000\u223b\uffff\uffff\000" +
+            "\u21a9\uffff\uffff\000\u21aa\uffff\uffff\001\ud559\uffff\uffff\000\u2015\uffff\uffff\001\ud4bd\uffff" +
+            "\uffff\000\u210f\uffff\uffff\000\u0127\uffff\uffff\000\u2043\uffff\uffff\000\u2010\uffff\uffff\000" +
+            "\355\uffff\uffff\000\u2063\uffff\uffff\000\356\uffff\uffff\000\u0438\uffff\uffff\000\u0435\uffff" +
+            "\uffff\000\241\uffff\uffff\000\u21d4\uffff\uffff\001\ud526\uffff\uffff\000\354\uffff\uffff\000\u2148" +
+            "\uffff\uffff\000\u2a0c\uffff\uffff\000\u222d\uffff\uffff\000\u29dc\uffff\uffff\000\u2129\uffff\uffff" +
+            "\000\u0133\uffff\uffff\000\u012b\uffff\uffff\000\u2111\uffff\uffff\000\u2110\uffff\uffff\000\u2111" +
+            "\uffff\uffff\000\u0131\uffff\uffff\000\u22b7\uffff\uffff\000\u01b5\uffff\uffff\000\u2208\uffff\uffff" +
+            "\000\u2105\uffff\uffff\000\u221e\uffff\uffff\000\u29dd\uffff\uffff\000\u0131\uffff\uffff\000\u222b" +
+            "\uffff\uffff\000\u22ba\uffff\uffff\000\u2124\uffff\uffff\000\u22ba\uffff\uffff\000\u2a17\uffff\uffff" +
+            "\000\u2a3c\uffff\uffff\000\u0451\uffff\uffff\000\u012f\uffff\uffff\001\ud55a\uffff\uffff\000\u03b9" +
+            "\uffff\uffff\000\u2a3c\uffff\uffff\000\277\uffff\uffff\001\ud4be\uffff\uffff\000\u2208\uffff\uffff" +
+            "\000\u22f9\uffff\uffff\000\u22f5\uffff\uffff\000\u22f4\uffff\uffff\000\u22f3\uffff\uffff\000\u2208" +
+            "\uffff\uffff\000\u2062\uffff\uffff\000\u0129\uffff\uffff\000\u0456\uffff\uffff\000\357\uffff\uffff" +
+            "\000\u0135\uffff\uffff\000\u0439\uffff\uffff\001\ud527\uffff\uffff\000\u0237\uffff\uffff\001\ud55b" +
+            "\uffff\uffff\001\ud4bf\uffff\uffff\000\u0458\uffff\uffff\000\u0454\uffff\uffff\000\u03ba\uffff\uffff" +
+            "\000\u03f0\uffff\uffff\000\u0137\uffff\uffff\000\u043a\uffff\uffff\001\ud528\uffff\uffff\000\u0138" +
+            "\uffff\uffff\000\u0445\uffff\uffff\000\u045c\uffff\uffff\001\ud55c\uffff\uffff\001\ud4c0\uffff\uffff" +
+            "\000\u21da\uffff\uffff\000\u21d0\uffff\uffff\000\u291b\uffff\uffff\000\u290e\uffff\uffff\000\u2266" +
+            "\uffff\uffff\000\u2a8b\uffff\uffff\000\u2962\uffff\uffff\000\u013a\uffff\uffff\000\u29b4\uffff\uffff" +
+            "\000\u2112\uffff\uffff\000\u03bb\uffff\uffff\000\u27e8\uffff\uffff\000\u2991\uffff\uffff\000\u27e8" +
+            "\uffff\uffff\000\u2a85\uffff\uffff\000\253\uffff\uffff\000\u2190\uffff\uffff\000\u21e4\uffff\uffff" +
+            "\000\u291f\uffff\uffff\000\u291d\uffff\uffff\000\u21a9\uffff\uffff\000\u21ab\uffff\uffff\000\u2939" +
+            "\uffff\uffff\000\u2973\uffff\uffff\000\u21a2\uffff\uffff\000\u2aab\uffff\uffff\000\u2919\uffff\uffff" +
+            "\000\u2aad\uffff\uffff\000\u2aad\000\ufe00\000\u290c\uffff\uffff\000\u2772\uffff\uffff\000{\uffff" +
+            "\uffff\000[\uffff\uffff\000\u298b\uffff\uffff\000\u298f\uffff\uffff\000\u298d\uffff\uffff\000\u013e" +
+            "\uffff\uffff\000\u013c\uffff\uffff\000\u2308\uffff\uffff\000{\uffff\uffff\000\u043b\uffff\uffff\000" +
+            "\u2936\uffff\uffff\000\u201c\uffff\uffff\000\u201e\uffff\uffff\000\u2967\uffff\uffff\000\u294b\uffff" +
+            "\uffff\000\u21b2\uffff\uffff\000\u2264\uffff\uffff\000\u2190\uffff\uffff\000\u21a2\uffff\uffff\000" +
+            "\u21bd\uffff\uffff\000\u21bc\uffff\uffff\000\u21c7\uffff\uffff\000\u2194\uffff\uffff\000\u21c6\uffff" +
+            "\uffff\000\u21cb\uffff\uffff\000\u21ad\uffff\uffff\000\u22cb\uffff\uffff\000\u22da\uffff\uffff\000" +
+            "\u2264\uffff\uffff\000\u2266\uffff\uffff\000\u2a7d\uffff\uffff\000\u2a7d\uffff\uffff\000\u2aa8\uffff" +
+            "\uffff\000\u2a7f\uffff\uffff\000\u2a81\uffff\uffff\000\u2a83\uffff\uffff\000\u22da\000\ufe00\000" +
+            "\u2a93\uffff\uffff\000\u2a85\uffff\uffff\000\u22d6\uffff\uffff\000\u22da\uffff\uffff\000\u2a8b\uffff" +
+            "\uffff\000\u2276\uffff\uffff\000\u2272\uffff\uffff\000\u297c\uffff\uffff\000\u230a\uffff\uffff\001" +
+            "\ud529\uffff\uffff\000\u2276\uffff\uffff\000\u2a91\uffff\uffff\000\u21bd\uffff\uffff\000\u21bc\uffff" +
+            "\uffff\000\u296a\uffff\uffff\000\u2584\uffff\uffff\000\u0459\uffff\uffff\000\u226a\uffff\uffff\000" +
+            "\u21c7\uffff\uffff\000\u231e\uffff\uffff\000\u296b\uffff\uffff\000\u25fa\uffff\uffff\000\u0140\uffff" +
+            "\uffff\000\u23b0\uffff\uffff\000\u23b0\uffff\uffff\000\u2268\uffff\uffff\000\u2a89\uffff\uffff\000" +
+            "\u2a89\uffff\uffff\000\u2a87\uffff\uffff\000\u2a87\uffff\uffff\000\u2268\uffff\uffff\000\u22e6\uffff" +
+            "\uffff\000\u27ec\uffff\uffff\000\u21fd\uffff\uffff\000\u27e6\uffff\uffff\000\u27f5\uffff\uffff\000" +
+            "\u27f7\uffff\uffff\000\u27fc\uffff\uffff\000\u27f6\uffff\uffff\000\u21ab\uffff\uffff\000\u21ac\uffff" +
+            "\uffff\000\u2985\uffff\uffff\001\ud55d\uffff\uffff\000\u2a2d\uffff\uffff\000\u2a34\uffff\uffff\000" +
+            "\u2217\uffff\uffff\000_\uffff\uffff\000\u25ca\uffff\uffff\000\u25ca\uffff\uffff\000\u29eb\uffff" +
+            "\uffff\000(\uffff\uffff\000\u2993\uffff\uffff\000\u21c6\uffff\uffff\000\u231f\uffff\uffff\000\u21cb" +
+            "\uffff\uffff\000\u296d\uffff\uffff\000\u200e\uffff\uffff\000\u22bf\uffff\uffff\000\u2039\uffff\uffff" +
+            "\001\ud4c1\uffff\uffff\000\u21b0\uffff\uffff\000\u2272\uffff\uffff\000\u2a8d\uffff\uffff\000\u2a8f" +
+            "\uffff\uffff\000[\uffff\uffff\000\u2018\uffff\uffff\000\u201a\uffff\uffff\000\u0142\uffff\uffff\000<" +
+            "\uffff\uffff\000\u2aa6\uffff\uffff\000\u2a79\uffff\uffff\000\u22d6\uffff\uffff\000\u22cb\uffff\uffff" +
+            "\000\u22c9\uffff\uffff\000\u2976\uffff\uffff\000\u2a7b\uffff\uffff\000\u2996\uffff\uffff\000\u25c3" +
+            "\uffff\uffff\000\u22b4\uffff\uffff\000\u25c2\uffff\uffff\000\u294a\uffff\uffff\000\u2966\uffff\uffff" +
+            "\000\u2268\000\ufe00\000\u2268\000\ufe00\000\u223a\uffff\uffff\000\257\uffff\uffff\000\u2642\uffff" +
+            "\uffff\000\u2720\uffff\uffff\000\u2720\uffff\uffff\000\u21a6\uffff\uffff\000\u21a6\uffff\uffff\000" +
+            "\u21a7\uffff\uffff\000\u21a4\uffff\uffff\000\u21a5\uffff\uffff\000\u25ae\uffff\uffff\000\u2a29\uffff" +
+            "\uffff\000\u043c\uffff\uffff\000\u2014\uffff\uffff\000\u2221\uffff\uffff\001\ud52a\uffff\uffff\000" +
+            "\u2127\uffff\uffff\000\265\uffff\uffff\000\u2223\uffff\uffff\000*\uffff\uffff\000\u2af0\uffff\uffff" +
+            "\000\267\uffff\uffff\000\u2212\uffff\uffff\000\u229f\uffff\uffff\000\u2238\uffff\uffff\000\u2a2a" +
+            "\uffff\uffff\000\u2adb\uffff\uffff\000\u2026\uffff\uffff\000\u2213\uffff\uffff\000\u22a7\uffff\uffff" +
+            "\001\ud55e\uffff\uffff\000\u2213\uffff\uffff\001\ud4c2\uffff\uffff\000\u223e\uffff\uffff\000\u03bc" +
+            "\uffff\uffff\000\u22b8\uffff\uffff\000\u22b8\uffff\uffff\000\u22d9\000\u0338\000\u226b\000\u20d2\000" +
+            "\u226b\000\u0338\000\u21cd\uffff\uffff\000\u21ce\uffff\uffff\000\u22d8\000\u0338\000\u226a\000\u20d2" +
+            "\000\u226a\000\u0338\000\u21cf\uffff\uffff\000\u22af\uffff\uffff\000\u22ae\uffff\uffff\000\u2207" +
+            "\uffff\uffff\000\u0144\uffff\uffff\000\u2220\000\u20d2\000\u2249\uffff\uffff\000\u2a70\000\u0338\000" +
+            "\u224b\000\u0338\000\u0149\uffff\uffff\000\u2249\uffff\uffff\000\u266e\uffff\uffff\000\u266e\uffff" +
+            "\uffff\000\u2115\uffff\uffff\000\240\uffff\uffff\000\u224e\000\u0338\000\u224f\000\u0338\000\u2a43" +
+            "\uffff\uffff\000\u0148\uffff\uffff\000\u0146\uffff\uffff\000\u2247\uffff\uffff\000\u2a6d\000\u0338" +
+            "\000\u2a42\uffff\uffff\000\u043d\uffff\uffff\000\u2013\uffff\uffff\000\u2260\uffff\uffff\000\u21d7" +
+            "\uffff\uffff\000\u2924\uffff\uffff\000\u2197\uffff\uffff\000\u2197\uffff\uffff\000\u2250\000\u0338" +
+            "\000\u2262\uffff\uffff\000\u2928\uffff\uffff\000\u2242\000\u0338\000\u2204\uffff\uffff\000\u2204" +
+            "\uffff\uffff\001\ud52b\uffff\uffff\000\u2267\000\u0338\000\u2271\uffff\uffff\000\u2271\uffff\uffff" +
+            "\000\u2267\000\u0338\000\u2a7e\000\u0338\000\u2a7e\000\u0338\000\u2275\uffff\uffff\000\u226f\uffff" +
+            "\uffff\000\u226f\uffff\uffff\000\u21ce\uffff\uffff\000\u21ae\uffff\uffff\000\u2af2\uffff\uffff\000" +
+            "\u220b\uffff\uffff\000\u22fc\uffff\uffff\000\u22fa\uffff\uffff\000\u220b\uffff\uffff\000\u045a\uffff" +
+            "\uffff\000\u21cd\uffff\uffff\000\u2266\000\u0338\000\u219a\uffff\uffff\000\u2025\uffff\uffff\000" +
+            "\u2270\uffff\uffff\000\u219a\uffff\uffff\000\u21ae\uffff\uffff\000\u2270\uffff\uffff\000\u2266\000" +
+            "\u0338\000\u2a7d\000\u0338\000\u2a7d\000\u0338\000\u226e\uffff\uffff\000\u2274\uffff\uffff\000\u226e" +
+            "\uffff\uffff\000\u22ea\uffff\uffff\000\u22ec\uffff\uffff\000\u2224\uffff\uffff\001\ud55f\uffff\uffff" +
+            "\000\254\uffff\uffff\000\u2209\uffff\uffff\000\u22f9\000\u0338\000\u22f5\000\u0338\000\u2209\uffff" +
+            "\uffff\000\u22f7\uffff\uffff\000\u22f6\uffff\uffff\000\u220c\uffff\uffff\000\u220c\uffff\uffff\000" +
+            "\u22fe\uffff\uffff\000\u22fd\uffff\uffff\000\u2226\uffff\uffff\000\u2226\uffff\uffff\000\u2afd\000" +
+            "\u20e5\000\u2202\000\u0338\000\u2a14\uffff\uffff\000\u2280\uffff\uffff\000\u22e0\uffff\uffff\000" +
+            "\u2aaf\000\u0338\000\u2280\uffff\uffff\000\u2aaf\000\u0338\000\u21cf\uffff\uffff\000\u219b\uffff" +
+            "\uffff\000\u2933\000\u0338\000\u219d\000\u0338\000\u219b\uffff\uffff\000\u22eb\uffff\uffff\000\u22ed" +
+            "\uffff\uffff\000\u2281\uffff\uffff\000\u22e1\uffff\uffff\000\u2ab0\000\u0338\001\ud4c3\uffff\uffff" +
+            "\000\u2224\uffff\uffff\000\u2226\uffff\uffff\000\u2241\uffff\uffff\000\u2244\uffff\uffff\000\u2244" +
+            "\uffff\uffff\000\u2224\uffff\uffff\000\u2226\uffff\uffff\000\u22e2\uffff\uffff\000\u22e3\uffff\uffff" +
+            "\000\u2284\uffff\uffff\000\u2ac5\000\u0338\000\u2288\uffff\uffff\000\u2282\000\u20d2\000\u2288\uffff" +
+            "\uffff\000\u2ac5\000\u0338\000\u2281\uffff\uffff\000\u2ab0\000\u0338\000\u2285\uffff\uffff\000\u2ac6" +
+            "\000\u0338\000\u2289\uffff\uffff\000\u2283\000\u20d2\000\u2289\uffff\uffff\000\u2ac6\000\u0338\000" +
+            "\u2279\uffff\uffff\000\361\uffff\uffff\000\u2278\uffff\uffff\000\u22ea\uffff\uffff\000\u22ec\uffff" +
+            "\uffff\000\u22eb\uffff\uffff\000\u22ed\uffff\uffff\000\u03bd\uffff\uffff\000#\uffff\uffff\000\u2116" +
+            "\uffff\uffff\000\u2007\uffff\uffff\000\u22ad\uffff\uffff\000\u2904\uffff\uffff\000\u224d\000\u20d2" +
+            "\000\u22ac\uffff\uffff\000\u2265\000\u20d2\000>\000\u20d2\000\u29de\uffff\uffff\000\u2902\uffff" +
+            "\uffff\000\u2264\000\u20d2\000<\000\u20d2\000\u22b4\000\u20d2\000\u2903\uffff\uffff\000\u22b5\000" +
+            "\u20d2\000\u223c\000\u20d2\000\u21d6\uffff\uffff\000\u2923\uffff\uffff\000\u2196\uffff\uffff\000" +
+            "\u2196\uffff\uffff\000\u2927\uffff\uffff\000\u24c8\uffff\uffff\000\363\uffff\uffff\000\u229b\uffff" +
+            "\uffff\000\u229a\uffff\uffff\000\364\uffff\uffff\000\u043e\uffff\uffff\000\u229d\uffff\uffff\000" +
+            "\u0151\uffff\uffff\000\u2a38\uffff\uffff\000\u2299\uffff\uffff\000\u29bc\uffff\uffff\000\u0153\uffff" +
+            "\uffff\000\u29bf\uffff\uffff\001\ud52c\uffff\uffff\000\u02db\uffff\uffff\000\362\uffff\uffff\000" +
+            "\u29c1\uffff\uffff\000\u29b5\uffff\uffff\000\u03a9\uffff\uffff\000\u222e\uffff\uffff\000\u21ba\uffff" +
+            "\uffff\000\u29be\uffff\uffff\000\u29bb\uffff\uffff\000\u203e\uffff\uffff\000\u29c0\uffff\uffff\000" +
+            "\u014d\uffff\uffff\000\u03c9\uffff\uffff\000\u03bf\uffff\uffff\000\u29b6\uffff\uffff\000\u2296\uffff" +
+            "\uffff\001\ud560\uffff\uffff\000\u29b7\uffff\uffff\000\u29b9\uffff\uffff\000\u2295\uffff\uffff\000" +
+            "\u2228\uffff\uffff\000\u21bb\uffff\uffff\000\u2a5d\uffff\uffff\000\u2134\uffff\uffff\000\u2134\uffff" +
+            "\uffff\000\252\uffff\uffff\000\272\uffff\uffff\000\u22b6\uffff\uffff\000\u2a56\uffff\uffff\000\u2a57" +
+            "\uffff\uffff\000\u2a5b\uffff\uffff\000\u2134\uffff\uffff\000\370\uffff\uffff\000\u2298\uffff\uffff" +
+            "\000\365\uffff\uffff\000\u2297\uffff\uffff\000\u2a36\uffff\uffff\000\366\uffff\uffff\000\u233d\uffff" +
+            "\uffff\000\u2225\uffff\uffff\000\266\uffff\uffff\000\u2225\uffff\uffff\000\u2af3\uffff\uffff\000" +
+            "\u2afd\uffff\uffff\000\u2202\uffff\uffff\000\u043f\uffff\uffff\000%\uffff\uffff\000.\uffff\uffff\000" +
+            "\u2030\uffff\uffff\000\u22a5\uffff\uffff\000\u2031\uffff\uffff\001\ud52d\uffff\uffff\000\u03c6\uffff" +
+            "\uffff\000\u03d5\uffff\uffff\000\u2133\uffff\uffff\000\u260e\uffff\uffff\000\u03c0\uffff\uffff\000" +
+            "\u22d4\uffff\uffff\000\u03d6\uffff\uffff\000\u210f\uffff\uffff\000\u210e\uffff\uffff\000\u210f\uffff" +
+            "\uffff\000+\uffff\uffff\000\u2a23\uffff\uffff\000\u229e\uffff\uffff\000\u2a22\uffff\uffff\000\u2214" +
+            "\uffff\uffff\000\u2a25\uffff\uffff\000\u2a72\uffff\uffff\000\261\uffff\uffff\000\u2a26\uffff\uffff" +
+            "\000\u2a27\uffff\uffff\000\261\uffff\uffff\000\u2a15\uffff\uffff\001\ud561\uffff\uffff\000\243\uffff" +
+            "\uffff\000\u227a\uffff\uffff\000\u2ab3\uffff\uffff\000\u2ab7\uffff\uffff\000\u227c\uffff\uffff\000" +
+            "\u2aaf\uffff\uffff\000\u227a\uffff\uffff\000\u2ab7\uffff\uffff\000\u227c\uffff\uffff\000\u2aaf\uffff" +
+            "\uffff\000\u2ab9\uffff\uffff\000\u2ab5\uffff\uffff\000\u22e8\uffff\uffff\000\u227e\uffff\uffff\000" +
+            "\u2032\uffff\uffff\000\u2119\uffff\uffff\000\u2ab5\uffff\uffff\000\u2ab9\uffff\uffff\000\u22e8\uffff" +
+            "\uffff\000\u220f\uffff\uffff\000\u232e\uffff\uffff\000\u2312\uffff\uffff\000\u2313\uffff\uffff\000" +
+            "\u221d\uffff\uffff\000\u221d\uffff\uffff\000\u227e\uffff\uffff\000\u22b0\uffff\uffff\001\ud4c5\uffff" +
+            "\uffff\000\u03c8\uffff\uffff\000\u2008\uffff\uffff\001\ud52e\uffff\uffff\000\u2a0c\uffff\uffff\001" +
+            "\ud562\uffff\uffff\000\u2057\uffff\uffff\001\ud4c6\uffff\uffff\000\u210d\uffff\uffff\000\u2a16\uffff" +
+            "\uffff\000?\uffff\uffff\000\u225f\uffff\uffff\000\042\uffff\uffff\000\u21db\uffff\uffff\000\u21d2" +
+            "\uffff\uffff\000\u291c\uffff\uffff\000\u290f\uffff\uffff\000\u2964\uffff\uffff\000\u223d\000\u0331" +
+            "\000\u0155\uffff\uffff\000\u221a\uffff\uffff\000\u29b3\uffff\uffff\000\u27e9\uffff\uffff\000\u2992" +
+            "\uffff\uffff\000\u29a5\uffff\uffff\000\u27e9\uffff\uffff\000\273\uffff\uffff\000\u2192\uffff\uffff" +
+            "\000\u2975\uffff\uffff\000\u21e5\uffff\uffff\000\u2920\uffff\uffff\000\u2933\uffff\uffff\000\u291e" +
+            "\uffff\uffff\000\u21aa\uffff\uffff\000\u21ac\uffff\uffff\000\u2945\uffff\uffff\000\u2974\uffff\uffff" +
+            "\000\u21a3\uffff\uffff\000\u219d\uffff\uffff\000\u291a\uffff\uffff\000\u2236\uffff\uffff\000\u211a" +
+            "\uffff\uffff\000\u290d\uffff\uffff\000\u2773\uffff\uffff\000}\uffff\uffff\000]\uffff\uffff\000\u298c" +
+            "\uffff\uffff\000\u298e\uffff\uffff\000\u2990\uffff\uffff\000\u0159\uffff\uffff\000\u0157\uffff\uffff" +
+            "\000\u2309\uffff\uffff\000}\uffff\uffff\000\u0440\uffff\uffff\000\u2937\uffff\uffff\000\u2969\uffff" +
+            "\uffff\000\u201d\uffff\uffff\000\u201d\uffff\uffff\000\u21b3\uffff\uffff\000\u211c\uffff\uffff\000" +
+            "\u211b\uffff\uffff\000\u211c\uffff\uffff\000\u211d\uffff\uffff\000\u25ad\uffff\uffff\000\256\uffff" +
+            "\uffff\000\u297d\uffff\uffff\000\u230b\uffff\uffff\001\ud52f\uffff\uffff\000\u21c1\uffff\uffff\000" +
+            "\u21c0\uffff\uffff\000\u296c\uffff\uffff\000\u03c1\uffff\uffff\000\u03f1\uffff\uffff\000\u2192\uffff" +
+            "\uffff\000\u21a3\uffff\uffff\000\u21c1\uffff\uffff\000\u21c0\uffff\uffff\000\u21c4\uffff\uffff\000" +
+            "\u21cc\uffff\uffff\000\u21c9\uffff\uffff\000\u219d\uffff\uffff\000\u22cc\uffff\uffff\000\u02da\uffff" +
+            "\uffff\000\u2253\uffff\uffff\000\u21c4\uffff\uffff\000\u21cc\uffff\uffff\000\u200f\uffff\uffff\000" +
+            "\u23b1\uffff\uffff\000\u23b1\uffff\uffff\000\u2aee\uffff\uffff\000\u27ed\uffff\uffff\000\u21fe\uffff" +
+            "\uffff\000\u27e7\uffff\uffff\000\u2986\uffff\uffff\001\ud563\uffff\uffff\000\u2a2e\uffff\uffff\000" +
+            "\u2a35\uffff\uffff\000)\uffff\uffff\000\u2994\uffff\uffff\000\u2a12\uffff\uffff\000\u21c9\uffff" +
+            "\uffff\000\u203a\uffff\uffff\001\ud4c7\uffff\uffff\000\u21b1\uffff\uffff\000]\uffff\uffff\000\u2019" +
+            "\uffff\uffff\000\u2019\uffff\uffff\000\u22cc\uffff\uffff\000\u22ca\uffff\uffff\000\u25b9\uffff\uffff" +
+            "\000\u22b5\uffff\uffff\000\u25b8\uffff\uffff\000\u29ce\uffff\uffff\000\u2968\uffff\uffff\000\u211e" +
+            "\uffff\uffff\000\u015b\uffff\uffff\000\u201a\uffff\uffff\000\u227b\uffff\uffff\000\u2ab4\uffff\uffff" +
+            "\000\u2ab8\uffff\uffff\000\u0161\uffff\uffff\000\u227d\uffff\uffff\000\u2ab0\uffff\uffff\000\u015f" +
+            "\uffff\uffff\000\u015d\uffff\uffff\000\u2ab6\uffff\uffff\000\u2aba\uffff\uffff\000\u22e9\uffff\uffff" +
+            "\000\u2a13\uffff\uffff\000\u227f\uffff\uffff\000\u0441\uffff\uffff\000\u22c5\uffff\uffff\000\u22a1" +
+            "\uffff\uffff\000\u2a66\uffff\uffff\000\u21d8\uffff\uffff\000\u2925\uffff\uffff\000\u2198\uffff\uffff" +
+            "\000\u2198\uffff\uffff\000\247\uffff\uffff\000;\uffff\uffff\000\u2929\uffff\uffff\000\u2216\uffff" +
+            "\uffff\000\u2216\uffff\uffff\000\u2736\uffff\uffff\001\ud530\uffff\uffff\000\u2322\uffff\uffff\000" +
+            "\u266f\uffff\uffff\000\u0449\uffff\uffff\000\u0448\uffff\uffff\000\u2223\uffff\uffff\000\u2225\uffff" +
+            "\uffff\000\255\uffff\uffff\000\u03c3\uffff\uffff\000\u03c2\uffff\uffff\000\u03c2\uffff\uffff\000" +
+            "\u223c\uffff\uffff\000\u2a6a\uffff\uffff\000\u2243\uffff\uffff\000\u2243\uffff\uffff\000\u2a9e\uffff" +
+            "\uffff\000\u2aa0\uffff\uffff\000\u2a9d\uffff\uffff\000\u2a9f\uffff\uffff\000\u2246\uffff\uffff\000" +
+            "\u2a24\uffff\uffff\000\u2972\uffff\uffff\000\u2190\uffff\uffff\000\u2216\uffff\uffff\000\u2a33\uffff" +
+            "\uffff\000\u29e4\uffff\uffff\000\u2223\uffff\uffff\000\u2323\uffff\uffff\000\u2aaa\uffff\uffff\000" +
+            "\u2aac\uffff\uffff\000\u2aac\000\ufe00\000\u044c\uffff\uffff\000/\uffff\uffff\000\u29c4\uffff\uffff" +
+            "\000\u233f\uffff\uffff\001\ud564\uffff\uffff\000\u2660\uffff\uffff\000\u2660\uffff\uffff\000\u2225" +
+            "\uffff\uffff\000\u2293\uffff\uffff\000\u2293\000\ufe00\000\u2294\uffff\uffff\000\u2294\000\ufe00\000" +
+            "\u228f\uffff\uffff\000\u2291\uffff\uffff\000\u228f\uffff\uffff\000\u2291\uffff\uffff\000\u2290\uffff" +
+            "\uffff\000\u2292\uffff\uffff\000\u2290\uffff\uffff\000\u2292\uffff\uffff\000\u25a1\uffff\uffff\000" +
+            "\u25a1\uffff\uffff\000\u25aa\uffff\uffff\000\u25aa\uffff\uffff\000\u2192\uffff\uffff\001\ud4c8\uffff" +
+            "\uffff\000\u2216\uffff\uffff\000\u2323\uffff\uffff\000\u22c6\uffff\uffff\000\u2606\uffff\uffff\000" +
+            "\u2605\uffff\uffff\000\u03f5\uffff\uffff\000\u03d5\uffff\uffff\000\257\uffff\uffff\000\u2282\uffff" +
+            "\uffff\000\u2ac5\uffff\uffff\000\u2abd\uffff\uffff\000\u2286\uffff\uffff\000\u2ac3\uffff\uffff\000" +
+            "\u2ac1\uffff\uffff\000\u2acb\uffff\uffff\000\u228a\uffff\uffff\000\u2abf\uffff\uffff\000\u2979\uffff" +
+            "\uffff\000\u2282\uffff\uffff\000\u2286\uffff\uffff\000\u2ac5\uffff\uffff\000\u228a\uffff\uffff\000" +
+            "\u2acb\uffff\uffff\000\u2ac7\uffff\uffff\000\u2ad5\uffff\uffff\000\u2ad3\uffff\uffff\000\u227b\uffff" +
+            "\uffff\000\u2ab8\uffff\uffff\000\u227d\uffff\uffff\000\u2ab0\uffff\uffff\000\u2aba\uffff\uffff\000" +
+            "\u2ab6\uffff\uffff\000\u22e9\uffff\uffff\000\u227f\uffff\uffff\000\u2211\uffff\uffff\000\u266a\uffff" +
+            "\uffff\000\u2283\uffff\uffff\000\271\uffff\uffff\000\262\uffff\uffff\000\263\uffff\uffff\000\u2ac6" +
+            "\uffff\uffff\000\u2abe\uffff\uffff\000\u2ad8\uffff\uffff\000\u2287\uffff\uffff\000\u2ac4\uffff\uffff" +
+            "\000\u27c9\uffff\uffff\000\u2ad7\uffff\uffff\000\u297b\uffff\uffff\000\u2ac2\uffff\uffff\000\u2acc" +
+            "\uffff\uffff\000\u228b\uffff\uffff\000\u2ac0\uffff\uffff\000\u2283\uffff\uffff\000\u2287\uffff\uffff" +
+            "\000\u2ac6\uffff\uffff\000\u228b\uffff\uffff\000\u2acc\uffff\uffff\000\u2ac8\uffff\uffff\000\u2ad4" +
+            "\uffff\uffff\000\u2ad6\uffff\uffff\000\u21d9\uffff\uffff\000\u2926\uffff\uffff\000\u2199\uffff\uffff" +
+            "\000\u2199\uffff\uffff\000\u292a\uffff\uffff\000\337\uffff\uffff\000\u2316\uffff\uffff\000\u03c4" +
+            "\uffff\uffff\000\u23b4\uffff\uffff\000\u0165\uffff\uffff\000\u0163\uffff\uffff\000\u0442\uffff\uffff" +
+            "\000\u20db\uffff\uffff\000\u2315\uffff\uffff\001\ud531\uffff\uffff\000\u2234\uffff\uffff\000\u2234" +
+            "\uffff\uffff\000\u03b8\uffff\uffff\000\u03d1\uffff\uffff\000\u03d1\uffff\uffff\000\u2248\uffff\uffff" +
+            "\000\u223c\uffff\uffff\000\u2009\uffff\uffff\000\u2248\uffff\uffff\000\u223c\uffff\uffff\000\376" +
+            "\uffff\uffff\000\u02dc\uffff\uffff\000\327\uffff\uffff\000\u22a0\uffff\uffff\000\u2a31\uffff\uffff" +
+            "\000\u2a30\uffff\uffff\000\u222d\uffff\uffff\000\u2928\uffff\uffff\000\u22a4\uffff\uffff\000\u2336" +
+            "\uffff\uffff\000\u2af1\uffff\uffff\001\ud565\uffff\uffff\000\u2ada\uffff\uffff\000\u2929\uffff\uffff" +
+            "\000\u2034\uffff\uffff\000\u2122\uffff\uffff\000\u25b5\uffff\uffff\000\u25bf\uffff\uffff\000\u25c3" +
+            "\uffff\uffff\000\u22b4\uffff\uffff\000\u225c\uffff\uffff\000\u25b9\uffff\uffff\000\u22b5\uffff\uffff" +
+            "\000\u25ec\uffff\uffff\000\u225c\uffff\uffff\000\u2a3a\uffff\uffff\000\u2a39\uffff\uffff\000\u29cd" +
+            "\uffff\uffff\000\u2a3b\uffff\uffff\000\u23e2\uffff\uffff\001\ud4c9\uffff\uffff\000\u0446\uffff\uffff" +
+            "\000\u045b\uffff\uffff\000\u0167\uffff\uffff\000\u226c\uffff\uffff\000\u219e\uffff\uffff\000\u21a0" +
+            "\uffff\uffff\000\u21d1\uffff\uffff\000\u2963\uffff\uffff\000\372\uffff\uffff\000\u2191\uffff\uffff" +
+            "\000\u045e\uffff\uffff\000\u016d\uffff\uffff\000\373\uffff\uffff\000\u0443\uffff\uffff\000\u21c5" +
+            "\uffff\uffff\000\u0171\uffff\uffff\000\u296e\uffff\uffff\000\u297e\uffff\uffff\001\ud532\uffff\uffff" +
+            "\000\371\uffff\uffff\000\u21bf\uffff\uffff\000\u21be\uffff\uffff\000\u2580\uffff\uffff\000\u231c" +
+            "\uffff\uffff\000\u231c\uffff\uffff\000\u230f\uffff\uffff\000\u25f8\uffff\uffff\000\u016b\uffff\uffff" +
+            "\000\250\uffff\uffff\000\u0173\uffff\uffff\001\ud566\uffff\uffff\000\u2191\uffff\uffff\000\u2195" +
+            "\uffff\uffff\000\u21bf\uffff\uffff\000\u21be\uffff\uffff\000\u228e\uffff\uffff\000\u03c5\uffff\uffff" +
+            "\000\u03d2\uffff\uffff\000\u03c5\uffff\uffff\000\u21c8\uffff\uffff\000\u231d\uffff\uffff\000\u231d" +
+            "\uffff\uffff\000\u230e\uffff\uffff\000\u016f\uffff\uffff\000\u25f9\uffff\uffff\001\ud4ca\uffff\uffff" +
+            "\000\u22f0\uffff\uffff\000\u0169\uffff\uffff\000\u25b5\uffff\uffff\000\u25b4\uffff\uffff\000\u21c8" +
+            "\uffff\uffff\000\374\uffff\uffff\000\u29a7\uffff\uffff\000\u21d5\uffff\uffff\000\u2ae8\uffff\uffff" +
+            "\000\u2ae9\uffff\uffff\000\u22a8\uffff\uffff\000\u299c\uffff\uffff\000\u03f5\uffff\uffff\000\u03f0" +
+            "\uffff\uffff\000\u2205\uffff\uffff\000\u03d5\uffff\uffff\000\u03d6\uffff\uffff\000\u221d\uffff\uffff" +
+            "\000\u2195\uffff\uffff\000\u03f1\uffff\uffff\000\u03c2\uffff\uffff\000\u228a\000\ufe00\000\u2acb\000" +
+            "\ufe00\000\u228b\000\ufe00\000\u2acc\000\ufe00\000\u03d1\uffff\uffff\000\u22b2\uffff\uffff\000\u22b3" +
+            "\uffff\uffff\000\u0432\uffff\uffff\000\u22a2\uffff\uffff\000\u2228\uffff\uffff\000\u22bb\uffff\uffff" +
+            "\000\u225a\uffff\uffff\000\u22ee\uffff\uffff\000|\uffff\uffff\000|\uffff\uffff\001\ud533\uffff\uffff" +
+            "\000\u22b2\uffff\uffff\000\u2282\000\u20d2\000\u2283\000\u20d2\001\ud567\uffff\uffff\000\u221d\uffff" +
+            "\uffff\000\u22b3\uffff\uffff\001\ud4cb\uffff\uffff\000\u2acb\000\ufe00\000\u228a\000\ufe00\000\u2acc" +
+            "\000\ufe00\000\u228b\000\ufe00\000\u299a\uffff\uffff\000\u0175\uffff\uffff\000\u2a5f\uffff\uffff\000" +
+            "\u2227\uffff\uffff\000\u2259\uffff\uffff\000\u2118\uffff\uffff\001\ud534\uffff\uffff\001\ud568\uffff" +
+            "\uffff\000\u2118\uffff\uffff\000\u2240\uffff\uffff\000\u2240\uffff\uffff\001\ud4cc\uffff\uffff\000" +
+            "\u22c2\uffff\uffff\000\u25ef\uffff\uffff\000\u22c3\uffff\uffff\000\u25bd\uffff\uffff\001\ud535\uffff" +
+            "\uffff\000\u27fa\uffff\uffff\000\u27f7\uffff\uffff\000\u03be\uffff\uffff\000\u27f8\uffff\uffff\000" +
+            "\u27f5\uffff\uffff\000\u27fc\uffff\uffff\000\u22fb\uffff\uffff\000\u2a00\uffff\uffff\001\ud569\uffff" +
+            "\uffff\000\u2a01\uffff\uffff\000\u2a02\uffff\uffff\000\u27f9\uffff\uffff\000\u27f6\uffff\uffff\001" +
+            "\ud4cd\uffff\uffff\000\u2a06\uffff\uffff\000\u2a04\uffff\uffff\000\u25b3\uffff\uffff\000\u22c1\uffff" +
+            "\uffff\000\u22c0\uffff\uffff\000\375\uffff\uffff\000\u044f\uffff\uffff\000\u0177\uffff\uffff\000" +
+            "\u044b\uffff\uffff\000\245\uffff\uffff\001\ud536\uffff\uffff\000\u0457\uffff\uffff\001\ud56a\uffff" +
+            "\uffff\001\ud4ce\uffff\uffff\000\u044e\uffff\uffff\000\377\uffff\uffff\000\u017a\uffff\uffff\000" +
+            "\u017e\uffff\uffff\000\u0437\uffff\uffff\000\u017c\uffff\uffff\000\u2128\uffff\uffff\000\u03b6\uffff" +
+            "\uffff\001\ud537\uffff\uffff\000\u0436\uffff\uffff\000\u21dd\uffff\uffff\001\ud56b\uffff\uffff\001" +
+            "\ud4cf\uffff\uffff\000\u200d\uffff\uffff\000\u200c\uffff\uffff";
+
+    static final String fullOrder =
+            "g\010a\244b\u0187\u07f1`\u012d\242\u0709\246\u0820\u0218e\u07c8\u03f6cd\u0361\u07b5\u0558\u0188" +
+            "\u03a4\u0257\u012e\u07f2\u0821\u0122\u0259\u03e4\u019e>\250\u050f\u026c\u025a\256h\252\u039b\254VS" +
+            "\u025b\u0142\u04ac\u04a7\u04a5\u04a9\u039d\u01f8\u01f1\u03a9\u071f\u0407\u039a\u0396\u0223\u0356" +
+            "\u039f\u06ec\u07c9\u0510\u03e0\u026d\u0634\u017a\u017d\u0186\u01ff\u02b1\u07b3\260\u018b\u0345\u0130" +
+            "\u07f3O\u0124\u012a'\u0128\u04f6\u026e\u0822;\u0221\u03ec\u0399:\u0318\u030e\u031b\u07b2\u061c\u0622" +
+            "\u061f\u0314\u04c7\u0311\u031f\u037f\u0290\u0636\u032f\u012c\u065c\u066a\u02de\u0662\u066b\u02ea" +
+            "\u0663\u04c0\u02bd\u0319\u07ca\262\350qj\272k\u01a4\266\u07f4i\u0346\264\u05e5\u05c4\270\u0823\u0131" +
+            "\u0720\u03c1\u0306\u025e\u071e\u0133l\u033b\u0270\u019b\u07f5\u05e6\u05c0\u0824\u0334\u025f\u0260" +
+            "\u017b\033\u012f\u016d\276\302\274\u018a\300\u07f6\u051c\u0825\u040f\u0522\u041a\u0761\u044d\u0731" +
+            "\u0443\u07cb\u042f\u01a1\u0120$\303\u022a\u0226\u022c\u058e\u0228\305\u03e3\u03e8\u018c\320\u0179no" +
+            "\u018f\315\u0236m\u0237\311\u0273\u0316\u0393\u0391\u04f0\u021c\u021a\313\u0826\u0135\u0233\307" +
+            "\u017ep\322\u0190\u07f7\u0827\u07cc\u0180\u017c\u019c\u0184\u0136\324\u0191\u07f8\u0828\u07cd\u0181" +
+            "\026\327\u0137\u060f\u0238\u02ad\333\331\u0192\u0609\u0282\u032b\u02f7\u0559\u0605\u066d\u02f0\u0665" +
+            "\u055d\u0293\u065a\u04be\u02b6\u0666\u04d2\u06c0\u04d8\u065d\u066c\u02e4\u0664\u02db\u065e\u030f" +
+            "\u031c\u051e\u0414\u044a\u075f\u072b\u0440\u07f9\u0519\u0326\335\u0613\u0619\u0616\u061d\u0623\u0620" +
+            "\u0829\u02a2\u029f\u023a\u02cb\337\u0429\u062b\u0193\u0216\u0261\u07fa\u035b\u082a\u0263\u0138\u0182" +
+            "\341\345\343\u0194\u01e0\u01e1\u01e2\u01df\u042e\u0428\001\u07fb\u02171\u023d\u07b9\u0409\u0433" +
+            "\u0384\u034a\u0404\u03bf\u033d\u0437\u043d\u0417\u042b\u0452\u072e\u0448\u03e1\u03e6\u0537\u06bf" +
+            "\u053d\u0434\u043a\u0450\u0425\u0728\u0446\u0760\u075e\u0467\u076f\u0529\u0351\u053a\u06c1\u0540" +
+            "\u0491\u052d\u0495\u052f\u046d\u0480\u046a\u0775\u052b\u0463\u0472\u0483\u03bd\u03c7\u03cd\u03d5" +
+            "\u037b\u07cer\u0139\356tu\u0195\354\u07fcs\352\u0144\u013b\u082b\u01f6\u01ef\u070a\u07cfyv\u06f3w" +
+            "\u020e\u0587\u0580\u0585\u0339\u0196\u07fd\u0141\u013cJ\u0229\u0243\u0789\u0454\u0772\u045a\u0460" +
+            "\u0208\u0354\u03a8\u036a\u07d0\u0143\003\u07fe\u0245\u07d1\u0633E\360\u0610\u02b0\u0637\364\362" +
+            "\u0197\u024b\u034d\u0302\u067c\u024a\u013d\u060c\u028b\u032d\u02f2\u055b\u0607\u0669\u02ed\u0661" +
+            "\u055f\u04bc\u02ba\u0667\u04d5\u06c2\u04dc\u065b\u0668\u02e1\u0660\u02e7\u065f\u0315\u024d\u067e" +
+            "\u0328\u0247\u02cd\u06cb\u01a0\u019f\u01a3\366\u078a\374\372\370\u0198\u07ff\u028f\u0281\u028a\u0286" +
+            "\u013e\u0366\u082c\u0369\u05bd\u04a0\u0492\u0499\u0496\u049c\u04a3\u07d2\u04fb\u050c\u050b\u047a" +
+            "\u0457\u0778\u045d\u0464\u034e\u0358\u050e\u0475\u047d\u050d\177\u024f\u0183\u019d\000\u013f\u0100" +
+            "\376\u0199\u0800\u03a1\u0134\u0215\u01db\u03b1\u03c4\u03ca\u03d0\u082d\u021f\u07d3\u0102{\u02ae" +
+            "\u0657\u0185\u0108|\u019a\u010c\u0801z\u0106%\u0588\u0582\u0586\u04f4\u048f\u010e\u082e\u0287\u0635" +
+            "\u02f5\u0296\u067a\u04c3\u02b8\u0312\u0320\u0299\u029c\u0167\u0140\u010a\u07d4\u0104}\u04cb\u07b8" +
+            "\u0189\u04c9\u07b4\u04ef\u01ed\u01ee\u0377,\u0600\u03ba\u01dd\u0802\u082f\u07d5\u04ca\u0110\u04ec" +
+            "\u0803\u0830\u07d6\u0804\u013a\u0831\u07d7\u01a6\u017f\u01a5~\u0112\u01a2\u0805\u0832\u07d8\u0114" +
+            "\u018d\u0115\u0119\u018e\u0117\u01e3\u0132\u0255\u0252\u07d9\202\245\u03b8\u03b6\u03b9\203P\u01a7" +
+            "\207\u0219\u0806\201\u0267\u0268\u0146\243\u06fa\011\u038a\u070b\u0711\u070e\u070f\u0373\u069d\u0372" +
+            "\u0375\u06a1\u06a2\u06a3\u06a4\u06a5\u06a6\u06a7\u06a8\u0370\u04e8\u069c\u0376f\u057b\247\u0833" +
+            "\u03d4\u071b\u0719\u03d9\u03db\012\u03d1\u03d8\206\u07da\016\u03d2\u03df\204\205\u03a0\u06db\u07ba" +
+            "\u03dc\u0177\u020a\u03b4\u0505\u04e7\u0556\u0555\u0583\u0584\u03dd\u01a8\u01fc\u03a6\u03a5\u06a9" +
+            "\u0178\u0258\u0147\u0269\u0431\u0807\u04f1\u05e0\u04f3\u06cd\u06cf\u06d1\u06d5\u05e7\u05d2\u05c8" +
+            "\u06d3\u04ed\u04ea\u062d\u06c9\u05c1\u05ca\u05d4\u05d8\u05ce\u058b\u05bb\u05ba\u05bc\u05b9\030\u0406" +
+            "\u0565\u0834\u04c5\u04c2\u04fe\u05a1\u059e\u05a0\u059d\u059a\u05b0\u05b3\u05ae\u05b1\u05a7\u05a4" +
+            "\u05a6\u05a3\u059b\u05b6\u05ad\u05aa\u05b5\u05ac\u05a9\u06bc\u059f\u059c\u0592\u0591\u058f\u05af" +
+            "\u05b2\u0597\u0598\u04b6\u04b4\u04b8\u05a5\u05a2\u0594\u0593\u0590\u05b4\u05ab\u05a8\u0599\u0596" +
+            "\u0595\u020b\u01238\u07db\u0213\u03b5\u0506!\u06bb\u0603\u0201\u0200\u03e5\u076e\u03ea\u03e9\251" +
+            "\u038e\u06fe\u0703\u0705\u0701\u06fb\u038d\u0210\u0121\u0707\257\210\253\u0706\u0708\255W\u06ab4T" +
+            "\u0808\u01be\u05fb\u05fa\u0160\u05de\u06b9\u011f\u03fc\u02d6\u02d8D\u058c\u04b0\u04ae\u04b2\u03fd" +
+            "\u06da\u07bc\u06b8\u05f0\u05ef\023\u03f7\u03f5\020\036\u0337\u0367\u0336\u0222\u03cb\u0717\u0397" +
+            "\u0835\u0357?\u023f\u02d1\u05fc\u07dc\u07a5\u07a7\u07a6\u07a8\u0544\u0651\u064e\u0526\u0528\u02d3" +
+            "\u0654\u0390\u0702\u0700\u0704\u048e\u06ff\u038f\u02d5\u0653\u0525\u0527\u0507\u05096\u02d2\u02d4" +
+            "\u0508\u050a\u039e\u039c\u0576\u031a\u0671\u01fd\u026b\u0292\u01e9\u04bf\u0630\u012b\261\u01ab\u026f" +
+            "\u01fe\u0301\u0721I\u0149\u06aa\u068b\u0809\u02f1\u02ee\u04f8\u04f7\u05f3\u05f4<\u016e\u0547\231\230" +
+            "\u04fc\u04fd\u01c8\u056f\u0562\006\u0836\u0125\u03ed\u03ef\u03aa\u035e\u04ba\u0557\u0291\u0300\u02ef" +
+            "\u02ec\u0632\u0571\u0561\u07dd\u01cb\u06cc\263\u0546\u05d7\u05d5\u0330\u067d\u069f\u01d4\u0627\u0722" +
+            "\u03f0\212\u0718\273\u03fb\213\u03f9\u01c4\267\u0272\u03f2\u080a\u0759\211\u0755\u0757\u0758\u058a" +
+            "\u023b\u0753\u0756\265\u0343\u0341\u0342\u01d6\u01d7\u01d8\351\u01d5\271\u0837\u0513\u06c6\u071c" +
+            "\u014b\u014a\u0176\u03fa\u03f8\u03c2\u0754\u0752\031\u0403\u0408\u0723\u06c8\u03f4\u067f\u025c\u03ee" +
+            "\u03c3\u014d\221\214\u021e\002\u033c\u025d\u0271\u03f1\u01bb\u05eb\u07c6\u07c3\u07c7\u080b\u07c4)" +
+            "\u05f6\u07c5\u05c7\u011b\u0838\u0335\u0512\u07af\u06d9\134\u0275[\u0277\u027b\u027d\u0276\u0278^" +
+            "\u0279\u027e\u027a\u027c\u027f\u0280\u0212\u0573\u07de\u041c\u0749\u011d\u0148\u016f\u073d\277\275" +
+            "\u01aa\301\u0411\u0524\u0410\u041b\u0732\u0733\u0767\u0735\u0737\u0739\u0521\u0751\u080c\u0430\u051b" +
+            "\u026a\u01c9\u044f\u074f\u0763\u0762\u0424\u0745\u0744\u0741\u0740\u0423\u0532\u0839(\u0225\u0445" +
+            "\u074b\u074d\034\u0765\u0725\u0517\u0698\u0727\u073c\u0685\u0516\u0523\u0748\u044e\u0444\u0421\u0422" +
+            "\u031d\u01de]\u0227\u01c1\u0295\u0656\u02c8\u0231\304\u05f2\u05f1\u0203\u04e3\u080d\u0642\u0644" +
+            "\u0333\u03ad\u02bf\u02c1\u083a\u01ec\u07df\u022e\306\u0211\u01e8\216\u021d\217\u01af\u01ac3\u031e" +
+            "\u080e\215\u0274\u06d7\u0394\u06c3\u0256\321\312\u0235\u0232\u0234\317\u04e0\u011c\u0349\u0224\u036f" +
+            "\u06c4\316\u0392\u04e5\u0251\u04e4\u06e1\u06f8\u01c7\314\u083b\u014f\u06f9_\u07e0\u0348\u054f\u054b" +
+            "\u0549\u0548\u0347\u021b\310\u01cc\220\323\u01b0\u080f\u011e\u083c\u07e1\u01ce\u01ca\u0150\u0171\325" +
+            "\u01b1\u0810\326\u01bc\u01d2\u083d\u07e2\u0327\u0310\u063a\u062f\u0416\u0747\u066e\330\u06ad\u0239" +
+            "\u0151\u060b\u0694\u060a\u073bA\u0285\u032c\u063e\u063c\u02c0\u02c4\u0652\u0681\u02b3\u0769\u0638" +
+            "\u076d\u076c\u062c\u0601*\037\u068e\u0692\u0690\334\332\u055a+\u01b2\u064f\u01f7\u01fb\u0673\u0659" +
+            "\u02cf\u040d\u0283\u02b2\u02dd\u02da\u02fa\u0294\u02f8\u0303\u02c7\u0501\u0520\u040c\u0415\u072c" +
+            "\u072d\u0766\u0734\u0736\u0738\u051d\u0750\u073a\u0514\u051f\u0746\u044b\u0441\u0688\u055e\u0811" +
+            "\u044c\u074e\u02df\u02dc\u0676\u05b8\u01cf\u042a\u02fb\u056e\u0677\u05e4\336\u057d\u057c\u0420\u0743" +
+            "\u0742\u073f\u073e\u041f\u0531\u0611\u0331\u0606\u0614\u061a\u0625\u0617\u02c3\u02c5\u068c\u083e" +
+            "\u06ea\u06f0\u0365&\u05dd\u05dc\u06ca\013\u0696\u02f9\u0570\u0304\u0679\u01e6\u04e9\u020c\u07e3" +
+            "\u02cc\u0442\u074a\u074c \u01f0\u01f4\340\027\u0764\u0724\u0515\u0502\u04ff\u0684\u0726\u0699\u05db" +
+            "\u04da\u05d9\u0658\u0672\u041d\u041e\u03acH\u05ec\u05fe\u05fd\u02bc\u02bb\u02be\u02b7\u02b9\u05c6" +
+            "\u06e8\u01b3\u01eb\u0374\u0812\u0253Q\u037a\015\u07bdU\u035a\u04b7\u03ab\u06e9\u07b1\u0204\u035c" +
+            "\u04c6\u083f\u035d\u07e4\u03b7\u0152\u04e1\u04e2\u051a\u042d\u042c\u0308\u030a\u0518\u0427\u0426" +
+            "\u030c\u04cf\u04ce\u0344\342\u0371\u03d7\u071a\u03da\347\u03d6\u05f8\u05f7\u023c2\u03e2\u03e7\u06fd" +
+            "\346\344\u03ce\u0716\u06fc\u01b4\u01ea\u0405\u0323\u0641\u029e\u029d\u03eb\u040a\u0647\u03c0\u033f" +
+            "\u033e\u0813\u0418\u043f\u043e\u0419\u072f\u0730\u0449\u0439\u0438\u030b\u02ca\u07bf\u0350\u0552" +
+            "\u0550\u034f\u01d0\u0309\u0412\u02a6\u0202\u043c\u02a5\u02c9\u043b\u0413\u0729\u072a\u0435\u0447" +
+            "\u0436\u0539\u053f\u037e\u0840B\u034c\u054e\u054a\u034b\u054d\u054c\u0353\u0352\u0554\u0553\u0388" +
+            "\u0386\u07c1\u0338\u06de\u0469\u052a\u0770\u0468\u0771\u030d\u02a8\u064c\u02a9\u02a7\u053c\u0542" +
+            "\u046c\u052c\u0776\u07e5\u037c\u0385\u03be\u03c9\u03c8\u037d\u0387\u052e\u0530\u0478\u0793\u0482" +
+            "\u046e\u0481\u0794\u046b\u0777\u0479\u0797\u0485\u0473\u0484\u0798\u0453\222\u0451\u0538\u053e\u053b" +
+            "\u0541\u0153\005\u023e\u01d9\u04cd\u062a\u03de\u04cc\u040e\032\u06c5\u0628\u040b\025\u04d7\u0629" +
+            "\u04db\u03ae\u0322\u0640\u029b\u029a\u0646\u058d\224\u04b1\u04af\225\u01b5\u04b3\355\u06f4\u04ad" +
+            "\u06b3\357\u06b5\u0814\u0127\223\u06b7\u06ae\u0145\u0398\u02d7\u06b4\u06b2\u020f\u06b6\353\u0162" +
+            "\u0155\u06af\u04a8\u0841\u06b0\u06b1\u04a6\u038c\u02d9\u0712\u0265\u0264@Y\u04df\u070c\u070d\u0710" +
+            "\u0266\232\u04ab\226\u04aa\u06f2\227\u0579\u0383R\u0381\u07c0\u07c2\u033a\u01b6\007\021\u0205\u04c4" +
+            "\u0206\u0815\u015f\u016a\u0262\u05ea\u0156\u0511\u016c\u022f\u022d\u0230\017\u06e3\u04b5\u06e2\u035f" +
+            "\u06e5\u071dK\u06e6\u06e7L\u06df\u08425\u0456\u077b\u0782\u045c\u0774\u0455\u0781\u045b\u0773\u0785" +
+            "\u077d\u0533\u0461\u0207\u0242\u077e\u0786\u0534\u0355\u0577\u0566\u0567\u036e\u036c\u0462\u04d0" +
+            "\u07e6\u0161\u01da\u0816\u06d8\u0843\u0214\u07e7\u022b\u06e0\035\u0402\004\u0329\u0317\u063b\u0631" +
+            "\u0670\u03b3\361\u0368\u06ac\u060e\u0695\u069e\u060dZ\u028e\u0683\u032e\u063f\u064d\u063d\u02c2" +
+            "\u02c6\u0655\u0682\u02b5\u02ab\u0639\u03a7\u0244\u062e\u0602/\042\u068f\u0691\u0693\365\363\u055c0" +
+            "\u01b7\u0650\u0675\u01fa\u01f9\u02d0\u0249\u0246\u0248\u024c\u05c5F\u0689\u0560\u0817\u02eb\u02e8" +
+            "\u0678\u0157\u0173\u028c\u02b4\u02e9\u02e6\u02f3\u0305\u02fe\u02aa\u0503\u0126\u03f3\u02f4\u0307" +
+            "\u01e7\u057f\u057e\u07bb\u0612\u0332\u0608\u068d\u0844\u06eb\u06f1\014\u0697\u06dc\u02ff\u020d\u07e8" +
+            "\u02ce#\u01f3\u01f2\u0504\u0500\u05d1\u04de\u05cf\u06be\u0674\u024e\367\u01f5\u0459\u077c\u0784\375" +
+            "\u045f\u077a\373\371\u0780\u0788\u0536\u06dd\u0466\u01b8\u04f9\u04bb\u0714\u0324\u0643\u02a1\u02a09" +
+            "\024\u0649\u0362\u0364\u05ff\u0818\u0572\u05f9\u01c0\u01bf\u0378\u0380C\u015b\u0159\u015a\u03b2" +
+            "\u0715\u03c6\u03c5\u075b\u075d\u075a\u075c\u03cc\u06e4\u0680\u0284\u0360\u06ef\u06c7\u0379\u0575" +
+            "\u0768\u076b\u076a\u01c3\022\u06ba\u057a\u0845\u05ee\u05ed\u0382\u04a1\u049f\u04a4\u04a2\u0494\u049b" +
+            "\u0493\u049a\u0498\u049e\u0497\u049d\u05bf\u05be\u05c2\u05c3\u028d\u07e9\u0363\u0574\u04fa\u05e9" +
+            "\u05e8\u0174\u0168G\u0471\u0796\u078b\u047c\u0791\u078f\u07a0\u0489\u078d\u0686\u0470\u047b\u0795" +
+            "\u0488\u079f\u079b\u07ab\u07a9\u0458\u0783\u045e\u0779\u0787\u077f\u0535\u0465\u0359\u05f5\u0477XMN" +
+            "\u079a\u078c\u07ae\u047f\u0792\u0604\u07ad\u0687\u0790\u07a4\u048d\u078e\u0476\u047e\u0799\u048c" +
+            "\u07a3\u079c\u07aa\u07ac\u0325\u0645\u02a4\u02a3\u064b\200\u0569\u015c\u0581\u0101\377\u01b9\u0220" +
+            "\u0568\u0819\u03a3\u03a2\u014e\u0163\u0165\u03cf\u03af\u01dc\u03d3\u03b0\240\u0129x\u04b9\u06ee" +
+            "\u06ed\u0395\u0648\u04c1\u0578\u07be\u0846\u07b0\u064a\u0209\u0250\u05cc\u05d6\u05da\u04d9\u0400" +
+            "\u05d0\u04dd\u05df\u0401\u06f6\u06f5\u06bd\u06f7\u0589\u07ea\u01bd\u01d1\u0103\u0432\u02ac\u02af" +
+            "\u0313\u066f\234\u0289\u01d3\u0109\235\u01ba\u02f6\u010d\u067b\u068a\u081a\233\u02e5\u02e2\u05b7" +
+            "\u056b\u056a\u0564\u05e2\u0107=\u010f\u0847\u0288\u0297\u02e3\u02e0\u0490\u015e\u0166\u015d\u02fc" +
+            "\u056d\u056c\u0563\u010b\u05e3\u07eb\u0545\u0105\u05cd\u05cb\u02fd\236\u06a0\u0321\u07b6\u07b7\u04c8" +
+            "\u069b\u0175\u0170\u0340\u0169\u016b\u036b\u0298\u0172\u0158\u0486\u079d\u048a\u07a1\u0164\u04d1" +
+            "\u04d4\u01a9\u04bd\u038b\u04e6\u03ff\u0543-.\u081b\u04d3\u046f\u0474\u0848\u036d\u04d6\u07ec\u079e" +
+            "\u0487\u07a2\u048b\u069a\u0111\u0713\u0389\u03fe\u0240\u081c\u0849\u0241\u03bc\u03bb\u07ed\u04f2" +
+            "\u05e1\u04f5\u05d3\u081d\u0624\u061b\u0154\u061e\u0615\u0626\u0551\u06ce\u084a\u06d0\u06d2\u0621" +
+            "\u0618\u07ee\u06d6\u06d4\u05c9\u04ee\u04eb\237\u01c6\u0113\u01c27\u081e\u01cd\u084b\u07ef\u01c5\241" +
+            "\u0116\u011a\u01ae\u0118\u0254\u014c\u081f\u01ad\u032a\u084c\u07f0\u01e5\u01e4";
+
+    static final String xhtmlNames =
+            "amp gt lt quot";
+
+    static final String xhtmlCodepoints =
+            "\000&\uffff\uffff\000>\uffff\uffff\000<\uffff\uffff\000\042\uffff\uffff";
+
+    static final String xhtmlOrder =
+            "\001\003\002\000";
+
+}
@@ -1,7 +1,11 @@
 package org.jsoup.parser;
 
+import org.jsoup.UncheckedIOException;
 import org.jsoup.helper.Validate;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
 import java.util.Arrays;
 import java.util.Locale;
 
@@ -9,35 +13,167 @@ import java.util.Locale;
 public final class CharacterReader {
     static final char EOF = (char) -1;
     private static final int maxCacheLen = 12;
+    static final int maxBufferLen = 1024 * 32;
+    static final int minBufferLen = 1024;
 
-    private final char[] input;
-    private final int length;
+    static final int maxRetainedLen = 1024 * 256;
+    private static final char[] empty = new char[0];
+
+    private Reader reader;
+    private char[] input;
+    private boolean shared;
+    private int length;
     private int pos = 0;
-    private int mark = 0;
+    private int mark = -1;
+    private int splitPoint;
+    private int readerPos = 0;
+    private boolean readFully;
     private final String[] stringCache = new String[512]; 
+    private final Span span = new Span();
 
     public CharacterReader(String input) {
+        reset(input);
+    }
+
+    public CharacterReader(char[] input, int offset, int count) {
+        reset(input, offset, count);
+    }
+
+    public CharacterReader(CharBuffer input) {
+        reset(input);
+    }
+
+    public CharacterReader(Reader input) {
+        this(input, maxBufferLen);
+    }
+
+    public CharacterReader(Reader input, int bufferSize) {
+        reset(input, bufferSize);
+    }
+
+    CharacterReader reset(String input) {
+        Validate.notNull(input);
+        final int count = input.length();
+        final char[] chars = ownedBuffer(count);
+        input.getChars(0, count, chars, 0);
+        window(chars, 0, count, false);
+        return this;
+    }
+
+    CharacterReader reset(char[] input, int offset, int count) {
+        Validate.notNull(input);
+        Validate.isTrue(offset >= 0 && count >= 0 && offset + count <= input.length, "Window must lie within the input");
+        window(input, offset, count, true);
+        return this;
+    }
+
+    CharacterReader reset(CharBuffer input) {
+        Validate.notNull(input);
+        if (input.hasArray()) return reset(input.array(), input.arrayOffset() + input.position(), input.remaining());
+        final int count = input.remaining();
+        final char[] chars = ownedBuffer(count);
+        input.duplicate().get(chars, 0, count);
+        window(chars, 0, count, false);
+        return this;
+    }
+
+    CharacterReader reset(Reader input) {
+        return reset(input, maxBufferLen);
+    }
+
+    CharacterReader reset(Reader input, int bufferSize) {
         Validate.notNull(input);
-        this.input = input.toCharArray();
-        this.length = this.input.length;
+        Validate.isTrue(bufferSize > 0, "Buffer size must be greater than 0");
+        final int size = Math.max(minBufferLen, Math.min(bufferSize, maxBufferLen));
+        this.input = shared || this.input == null || this.input.length != size ? new char[size] : this.input;
+        this.shared = false;
+        this.reader = input;
+        this.pos = 0;
+        this.length = 0;
+        this.mark = -1;
+        this.splitPoint = 0;
+        this.readerPos = 0;
+        this.readFully = false;
+        bufferUp();
+        return this;
+    }
+
+    void release() {
+        if (shared || input.length > maxRetainedLen) window(empty, 0, 0, true);
+        else window(input, 0, 0, false);
+    }
+
+    private char[] ownedBuffer(int count) {
+        return !shared && input != null && input.length >= count ? input : new char[count];
+    }
+
+    private void window(char[] input, int offset, int count, boolean shared) {
+        this.reader = null;
+        this.input = input;
+        this.shared = shared;
+        this.pos = offset;
+        this.length = offset + count;
+        this.mark = -1;
+        this.splitPoint = length;
+        this.readerPos = -offset;
+        this.readFully = true;
+    }
+
+    private void bufferUp() {
+        if (pos < splitPoint) return;
+        if (readFully) {
+            splitPoint = length;
+            return;
+        }
+        int start = pos > 0 ? pos - 1 : 0;
+        if (mark >= 0 && mark < start && pos - mark < input.length / 4) start = mark;
+        int kept = length - start;
+        System.arraycopy(input, start, input, 0, kept);
+        readerPos += start;
+        pos -= start;
+        mark = mark >= start ? mark - start : -1;
+        length = kept;
+        try {
+            while (length < input.length) {
+                int read = reader.read(input, length, input.length - length);
+                if (read == -1) {
+                    readFully = true;
+                    break;
+                }
+                length += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        splitPoint = readFully ? length : Math.min(length, input.length / 4 * 3);
+    }
+
+    private boolean fill() {
+        if (readFully) return false;
+        splitPoint = 0;
+        bufferUp();
+        return true;
     }
 
     
     public int pos() {
-        return pos;
+        return readerPos + pos;
     }
 
     
     public boolean isEmpty() {
+        bufferUp();
         return pos >= length;
     }
 
     
     public char current() {
+        bufferUp();
         return pos >= length ? EOF : input[pos];
     }
 
     char consume() {
+        bufferUp();
         char val = pos >= length ? EOF : input[pos];
         pos++;
         return val;
@@ -53,20 +189,24 @@ public final class CharacterReader {
     }
 
     void mark() {
+        if (length - pos < input.length / 4) splitPoint = 0;
+        bufferUp();
         mark = pos;
     }
 
     void rewindToMark() {
+        if (mark == -1) throw new UncheckedIOException(new IOException("Mark invalid"));
         pos = mark;
     }
 
     String consumeAsString() {
+        bufferUp();
         return new String(input, pos++, 1);
     }
 
     
     int nextIndexOf(char c) {
-        
+        bufferUp();
         for (int i = pos; i < length; i++) {
             if (c == input[i])
                 return i - pos;
@@ -76,7 +216,7 @@ public final class CharacterReader {
 
     
     int nextIndexOf(CharSequence seq) {
-        
+        bufferUp();
         char startChar = seq.charAt(0);
         for (int offset = pos; offset < length; offset++) {
             
@@ -100,9 +240,19 @@ public final class CharacterReader {
             String consumed = cacheString(pos, offset);
             pos += offset;
             return consumed;
-        } else {
-            return consumeToEnd();
         }
+        StringBuilder builder = new StringBuilder(length - pos);
+        do {
+            builder.append(input, pos, length - pos);
+            pos = length;
+            if (!fill()) break;
+            offset = nextIndexOf(c);
+        } while (offset == -1);
+        if (offset != -1) {
+            builder.append(input, pos, offset);
+            pos += offset;
+        }
+        return builder.toString();
     }
 
     String consumeTo(String seq) {
@@ -111,13 +261,30 @@ public final class CharacterReader {
             String consumed = cacheString(pos, offset);
             pos += offset;
             return consumed;
-        } else {
-            return consumeToEnd();
         }
+        StringBuilder builder = new StringBuilder(length - pos);
+        do {
+            int safe = length - pos - seq.length() + 1;
+            if (readFully || safe < 0) safe = readFully ? length - pos : 0;
+            builder.append(input, pos, safe);
+            pos += safe;
+            if (!fill()) break;
+            offset = nextIndexOf(seq);
+        } while (offset == -1);
+        if (offset != -1) {
+            builder.append(input, pos, offset);
+            pos += offset;
+        }
+        return builder.toString();
     }
 
     
     public String consumeToAny(final char... chars) {
+        return consumeToAnySpan(chars).toString();
+    }
+
+    Span consumeToAnySpan(final char... chars) {
+        bufferUp();
         final int start = pos;
         final int remaining = length;
         final char[] val = input;
@@ -130,10 +297,15 @@ public final class CharacterReader {
             pos++;
         }
 
-        return pos > start ? cacheString(start, pos-start) : "";
+        return span.of(start, pos - start);
     }
 
     String consumeToAnySorted(final char... chars) {
+        return consumeToAnySortedSpan(chars).toString();
+    }
+
+    Span consumeToAnySortedSpan(final char... chars) {
+        bufferUp();
         final int start = pos;
         final int remaining = length;
         final char[] val = input;
@@ -144,11 +316,15 @@ public final class CharacterReader {
             pos++;
         }
 
-        return pos > start ? cacheString(start, pos-start) : "";
+        return span.of(start, pos - start);
     }
 
     String consumeData() {
-        
+        return consumeDataSpan().toString();
+    }
+
+    Span consumeDataSpan() {
+        bufferUp();
         final int start = pos;
         final int remaining = length;
         final char[] val = input;
@@ -160,11 +336,11 @@ public final class CharacterReader {
             pos++;
         }
 
-        return pos > start ? cacheString(start, pos-start) : "";
+        return span.of(start, pos - start);
     }
 
     String consumeTagName() {
-        
+        bufferUp();
         final int start = pos;
         final int remaining = length;
         final char[] val = input;
@@ -180,12 +356,20 @@ public final class CharacterReader {
     }
 
     String consumeToEnd() {
+        bufferUp();
         String data = cacheString(pos, length-pos);
         pos = length;
-        return data;
+        if (!fill()) return data;
+        StringBuilder builder = new StringBuilder(data);
+        do {
+            builder.append(input, pos, length - pos);
+            pos = length;
+        } while (fill());
+        return builder.toString();
     }
 
     String consumeLetterSequence() {
+        bufferUp();
         int start = pos;
         while (pos < length) {
             char c = input[pos];
@@ -198,16 +382,18 @@ public final class CharacterReader {
         return cacheString(start, pos - start);
     }
 
-    String consumeLetterThenDigitSequence() {
+    String consumeLetterThenDigitSequence(int max) {
+        bufferUp();
         int start = pos;
-        while (pos < length) {
+        int end = Math.min(length, pos + max);
+        while (pos < end) {
             char c = input[pos];
             if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || Character.isLetter(c))
                 pos++;
             else
                 break;
         }
-        while (!isEmpty()) {
+        while (pos < end) {
             char c = input[pos];
             if (c >= '0' && c <= '9')
                 pos++;
@@ -219,6 +405,7 @@ public final class CharacterReader {
     }
 
     String consumeHexSequence() {
+        bufferUp();
         int start = pos;
         while (pos < length) {
             char c = input[pos];
@@ -231,6 +418,7 @@ public final class CharacterReader {
     }
 
     String consumeDigitSequence() {
+        bufferUp();
         int start = pos;
         while (pos < length) {
             char c = input[pos];
@@ -248,6 +436,7 @@ public final class CharacterReader {
     }
 
     boolean matches(String seq) {
+        bufferUp();
         int scanLength = seq.length();
         if (scanLength > length - pos)
             return false;
@@ -259,6 +448,7 @@ public final class CharacterReader {
     }
 
     boolean matchesIgnoreCase(String seq) {
+        bufferUp();
         int scanLength = seq.length();
         if (scanLength > length - pos)
             return false;
@@ -324,7 +514,7 @@ public final class CharacterReader {
         
         String loScan = seq.toLowerCase(Locale.ENGLISH);
         String hiScan = seq.toUpperCase(Locale.ENGLISH);
-        return (nextIndexOf(loScan) > -1) || (nextIndexOf(hiScan) > -1);
+        return (nextIndexOf(loScan) > -1) || (nextIndexOf(hiScan) > -1) || !readFully;
     }
 
     @Override
@@ -380,4 +570,41 @@ public final class CharacterReader {
         }
         return false;
     }
+
+    final class Span implements CharSequence {
+        private int start;
+        private int count;
+
+        private Span of(int start, int count) {
+            this.start = start;
+            this.count = count;
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return count;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= count) throw new IndexOutOfBoundsException(String.valueOf(index));
+            return input[start + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            if (from < 0 || from > to || to > count) throw new IndexOutOfBoundsException(from + ", " + to);
+            return new String(input, start + from, to - from);
+        }
+
+        void appendTo(StringBuilder builder) {
+            builder.append(input, start, count);
+        }
+
+        @Override
+        public String toString() {
+            return count > 0 ? cacheString(start, count) : "";
+        }
+    }
 }
@@ -0,0 +1,186 @@
+package org.jsoup.parser;
+
+import org.jsoup.UncheckedIOException;
+import org.jsoup.helper.Validate;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.DocumentType;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.FormElement;
+import org.jsoup.nodes.Node;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+
+
+public class EventTreeBuilder extends HtmlTreeBuilder {
+    private final ArrayList<Element> open = new ArrayList<Element>(32);
+    private ParseHandler handler;
+    private boolean insertingSelfClosing;
+    private int depth;
+
+    public EventTreeBuilder() {}
+
+    public EventTreeBuilder limits(ParseLimits limits) {
+        Validate.notNull(limits, "Limits must not be null");
+        this.limits = limits;
+        return this;
+    }
+
+    public boolean truncated() {
+        return truncated;
+    }
+
+    public void parse(String html, String baseUri, ParseHandler handler) {
+        Validate.notNull(html, "String input must not be null");
+        parse(reader != null ? reader.reset(html) : new CharacterReader(html), baseUri, handler);
+    }
+
+    public void parse(Reader input, String baseUri, ParseHandler handler) throws IOException {
+        Validate.notNull(input, "Reader input must not be null");
+        try {
+            parse(reader != null ? reader.reset(input) : new CharacterReader(input), baseUri, handler);
+        } catch (UncheckedIOException e) {
+            throw e.ioException();
+        }
+    }
+
+    public void parse(CharBuffer input, String baseUri, ParseHandler handler) {
+        Validate.notNull(input, "CharBuffer input must not be null");
+        parse(reader != null ? reader.reset(input) : new CharacterReader(input), baseUri, handler);
+    }
+
+    private void parse(CharacterReader input, String baseUri, ParseHandler handler) {
+        Validate.notNull(handler, "Handler must not be null");
+        this.handler = handler;
+        open.clear();
+        depth = 0;
+        try {
+            parse(input, baseUri, ParseErrorList.noTracking(), defaultSettings());
+        } finally {
+            this.handler = null;
+            open.clear();
+        }
+    }
+
+    @Override
+    void reset() {
+        super.reset();
+        open.clear();
+        handler = null;
+    }
+
+    @Override
+    protected boolean process(Token token) {
+        if (depth++ > 0) {
+            try {
+                return super.process(token);
+            } finally {
+                depth--;
+            }
+        }
+        Document doc = getDocument();
+        int children = doc.childNodeSize();
+        boolean processed;
+        try {
+            processed = super.process(token);
+        } finally {
+            depth--;
+        }
+        if (doc.childNodeSize() > children && doc.childNode(children) instanceof DocumentType) {
+            Node doctype = doc.childNode(children);
+            handler.doctype(doctype.attr("name"), doctype.attr("publicId"), doctype.attr("systemId"));
+            doctype.remove();
+        }
+        if (token.type == Token.TokenType.EOF) {
+            getStack().clear();
+        }
+        sync();
+        return processed;
+    }
+
+    @Override
+    Element insert(Token.StartTag startTag) {
+        insertingSelfClosing = startTag.isSelfClosing();
+        try {
+            return super.insert(startTag);
+        } finally {
+            insertingSelfClosing = false;
+            sync();
+        }
+    }
+
+    @Override
+    void insert(Element el) {
+        sync();
+        super.insert(el);
+        sync();
+    }
+
+    @Override
+    void push(Element element) {
+        sync();
+        super.push(element);
+        sync();
+    }
+
+    @Override
+    Element insertEmpty(Token.StartTag startTag) {
+        sync();
+        Element el = super.insertEmpty(startTag);
+        if (!insertingSelfClosing) empty(el);
+        return el;
+    }
+
+    @Override
+    FormElement insertForm(Token.StartTag startTag, boolean onStack) {
+        sync();
+        FormElement el = super.insertForm(startTag, onStack);
+        if (onStack) sync();
+        else empty(el);
+        return el;
+    }
+
+    @Override
+    void insert(Token.Comment commentToken) {
+        sync();
+        handler.comment(commentToken.getData());
+    }
+
+    @Override
+    void insert(Token.Character characterToken) {
+        sync();
+        handler.text(characterToken.getData());
+    }
+
+    private void empty(Element el) {
+        sync();
+        handler.startTag(el.tagName(), el.attributes());
+        handler.endTag(el.tagName());
+        prune(el);
+    }
+
+    private void sync() {
+        ArrayList<Element> stack = getStack();
+        int common = 0;
+        int shared = Math.min(open.size(), stack.size());
+        while (common < shared && open.get(common) == stack.get(common))
+            common++;
+        for (int pos = open.size() - 1; pos >= common; pos--) {
+            Element el = open.remove(pos);
+            handler.endTag(el.tagName());
+            prune(el);
+        }
+        for (int pos = common; pos < stack.size(); pos++) {
+            Element el = stack.get(pos);
+            open.add(el);
+            handler.startTag(el.tagName(), el.attributes());
+        }
+    }
+
+    private void prune(Element el) {
+        if (el.parent() != null && !isInActiveFormattingElements(el) && !onStack(el))
+            el.remove();
+    }
+}
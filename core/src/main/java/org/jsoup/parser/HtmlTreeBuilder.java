@@ -48,15 +48,35 @@ public class HtmlTreeBuilder extends TreeBuilder {
     }
 
     @Override
-    Document parse(String input, String baseUri, ParseErrorList errors, ParseSettings settings) {
+    Document parse(CharacterReader input, String baseUri, ParseErrorList errors, ParseSettings settings) {
+        clearState();
+        return super.parse(input, baseUri, errors, settings);
+    }
+
+    @Override
+    void reset() {
+        super.reset();
+        clearState();
+    }
+
+    private void clearState() {
         state = HtmlTreeBuilderState.Initial;
+        originalState = null;
         baseUriSetFromDoc = false;
-        return super.parse(input, baseUri, errors, settings);
+        headElement = null;
+        formElement = null;
+        contextElement = null;
+        formattingElements.clear();
+        pendingTableCharacters.clear();
+        emptyEnd.reset();
+        framesetOk = true;
+        fosterInserts = false;
+        fragmentParsing = false;
     }
 
     List<Node> parseFragment(String inputFragment, Element context, String baseUri, ParseErrorList errors, ParseSettings settings) {
         
-        state = HtmlTreeBuilderState.Initial;
+        clearState();
         initialiseParse(inputFragment, baseUri, errors, settings);
         contextElement = context;
         fragmentParsing = true;
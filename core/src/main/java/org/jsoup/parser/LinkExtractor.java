@@ -0,0 +1,157 @@
+package org.jsoup.parser;
+
+import org.jsoup.UncheckedIOException;
+import org.jsoup.helper.StringUtil;
+import org.jsoup.helper.Validate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class LinkExtractor {
+    private final ArrayList<String> links = new ArrayList<String>();
+    private final StringBuilder text = new StringBuilder();
+    private boolean collectText = false;
+    private String baseUri;
+    private CharacterReader reader;
+    private Tokeniser tokeniser;
+    private ParseLimits limits = ParseLimits.unlimited;
+    private boolean truncated;
+
+    public LinkExtractor collectText(boolean collectText) {
+        this.collectText = collectText;
+        return this;
+    }
+
+    public LinkExtractor limits(ParseLimits limits) {
+        Validate.notNull(limits, "Limits must not be null");
+        this.limits = limits;
+        return this;
+    }
+
+    public LinkExtractor extract(String html, String baseUri) {
+        Validate.notNull(html, "String input must not be null");
+        return extract(reader != null ? reader.reset(html) : new CharacterReader(html), baseUri);
+    }
+
+    public LinkExtractor extract(Reader input, String baseUri) throws IOException {
+        Validate.notNull(input, "Reader input must not be null");
+        try {
+            return extract(reader != null ? reader.reset(input) : new CharacterReader(input), baseUri);
+        } catch (UncheckedIOException e) {
+            throw e.ioException();
+        }
+    }
+
+    public LinkExtractor reset() {
+        links.clear();
+        text.setLength(0);
+        if (text.capacity() > CharacterReader.maxRetainedLen) text.trimToSize();
+        baseUri = null;
+        truncated = false;
+        if (reader != null) reader.release();
+        if (tokeniser != null) tokeniser.reset(reader, ParseErrorList.noTracking());
+        return this;
+    }
+
+    public List<String> links() {
+        return links;
+    }
+
+    public String text() {
+        return text.toString();
+    }
+
+    public String baseUri() {
+        return baseUri;
+    }
+
+    public boolean truncated() {
+        return truncated;
+    }
+
+    LinkExtractor extract(CharacterReader reader, String baseUri) {
+        Validate.notNull(baseUri, "BaseURI must not be null");
+        links.clear();
+        text.setLength(0);
+        this.baseUri = baseUri;
+        boolean baseUriSetFromDoc = false;
+        boolean textContent = true;
+        int elements = 0;
+        truncated = false;
+        this.reader = reader;
+        tokeniser = tokeniser != null ? tokeniser.reset(reader, ParseErrorList.noTracking()) : new Tokeniser(reader, ParseErrorList.noTracking());
+        while (true) {
+            Token token = tokeniser.read();
+            switch (token.type) {
+                case StartTag:
+                    Token.StartTag startTag = token.asStartTag();
+                    String name = startTag.normalName();
+                    tokeniser.acknowledgeSelfClosingFlag();
+                    elements++;
+                    if (name.equals("a")) {
+                        String href = href(startTag);
+                        if (href.length() > 0) links.add(href);
+                    } else if (name.equals("base") && !baseUriSetFromDoc) {
+                        String href = href(startTag);
+                        String abs = href.length() > 0 ? StringUtil.resolve(this.baseUri, href) : "";
+                        if (abs.length() > 0) {
+                            this.baseUri = abs;
+                            baseUriSetFromDoc = true;
+                        }
+                    } else if (name.equals("script")) {
+                        tokeniser.transition(TokeniserState.ScriptData);
+                        textContent = false;
+                    } else if (name.equals("title")) {
+                        tokeniser.transition(TokeniserState.Rcdata);
+                        textContent = false;
+                    } else if (name.equals("textarea")) {
+                        tokeniser.transition(TokeniserState.Rcdata);
+                    } else if (StringUtil.in(name, "iframe", "noembed", "noframes", "style", "xmp")) {
+                        tokeniser.transition(TokeniserState.Rawtext);
+                        textContent = false;
+                    } else if (name.equals("plaintext")) {
+                        tokeniser.transition(TokeniserState.PLAINTEXT);
+                    }
+                    separateText();
+                    break;
+                case EndTag:
+                    textContent = true;
+                    separateText();
+                    break;
+                case Character:
+                    if (collectText && textContent) text.append(token.asCharacter().getData());
+                    break;
+                case EOF:
+                    token.reset();
+                    resolveLinks();
+                    return this;
+            }
+            token.reset();
+            if (limits.exceeded(reader, elements, 0)) {
+                truncated = true;
+                resolveLinks();
+                return this;
+            }
+        }
+    }
+
+    private void resolveLinks() {
+        int size = 0;
+        for (int i = 0; i < links.size(); i++) {
+            String abs = StringUtil.resolve(baseUri, links.get(i));
+            if (abs.length() > 0) links.set(size++, abs);
+        }
+        links.subList(size, links.size()).clear();
+    }
+
+    private void separateText() {
+        if (collectText && text.length() > 0 && text.charAt(text.length() - 1) != ' ') text.append(' ');
+    }
+
+    private static String href(Token.StartTag startTag) {
+        return startTag.attributes != null ? startTag.attributes.getIgnoreCase("href").trim() : "";
+    }
+}
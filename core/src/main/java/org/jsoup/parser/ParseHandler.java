@@ -0,0 +1,17 @@
+package org.jsoup.parser;
+
+import org.jsoup.nodes.Attributes;
+
+
+public interface ParseHandler {
+
+    void doctype(String name, String publicId, String systemId);
+
+    void startTag(String name, Attributes attributes);
+
+    void endTag(String name);
+
+    void text(String text);
+
+    void comment(String data);
+}
@@ -0,0 +1,38 @@
+package org.jsoup.parser;
+
+import org.jsoup.helper.Validate;
+
+
+public class ParseLimits {
+
+    public static final ParseLimits unlimited = new ParseLimits(0, 0, 0);
+
+    private final int maxInput;
+    private final int maxElements;
+    private final int maxDepth;
+
+    public ParseLimits(int maxInput, int maxElements, int maxDepth) {
+        Validate.isTrue(maxInput >= 0 && maxElements >= 0 && maxDepth >= 0, "Limits must be 0 (unlimited) or larger");
+        this.maxInput = maxInput;
+        this.maxElements = maxElements;
+        this.maxDepth = maxDepth;
+    }
+
+    public int maxInput() {
+        return maxInput;
+    }
+
+    public int maxElements() {
+        return maxElements;
+    }
+
+    public int maxDepth() {
+        return maxDepth;
+    }
+
+    boolean exceeded(CharacterReader reader, int elements, int depth) {
+        return (maxInput > 0 && reader.pos() >= maxInput)
+                || (maxElements > 0 && elements >= maxElements)
+                || (maxDepth > 0 && depth > maxDepth);
+    }
+}
@@ -1,9 +1,12 @@
 package org.jsoup.parser;
 
+import org.jsoup.helper.Validate;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.nodes.Node;
 
+import java.io.Reader;
+import java.nio.CharBuffer;
 import java.util.List;
 
 
@@ -14,6 +17,7 @@ public class Parser {
     private int maxErrors = DEFAULT_MAX_ERRORS;
     private ParseErrorList errors;
     private ParseSettings settings;
+    private ParseLimits limits = ParseLimits.unlimited;
 
     
     public Parser(TreeBuilder treeBuilder) {
@@ -23,9 +27,28 @@ public class Parser {
     
     public Document parseInput(String html, String baseUri) {
         errors = isTrackErrors() ? ParseErrorList.tracking(maxErrors) : ParseErrorList.noTracking();
+        treeBuilder.limits = limits;
         return treeBuilder.parse(html, baseUri, errors, settings);
     }
 
+    public Document parseInput(Reader inputHtml, String baseUri) {
+        errors = isTrackErrors() ? ParseErrorList.tracking(maxErrors) : ParseErrorList.noTracking();
+        treeBuilder.limits = limits;
+        return treeBuilder.parse(inputHtml, baseUri, errors, settings);
+    }
+
+    public Document parseInput(CharBuffer inputHtml, String baseUri) {
+        errors = isTrackErrors() ? ParseErrorList.tracking(maxErrors) : ParseErrorList.noTracking();
+        treeBuilder.limits = limits;
+        return treeBuilder.parse(inputHtml, baseUri, errors, settings);
+    }
+
+    public Parser reset() {
+        treeBuilder.reset();
+        errors = null;
+        return this;
+    }
+
     
     
     public TreeBuilder getTreeBuilder() {
@@ -63,6 +86,20 @@ public class Parser {
         return settings;
     }
 
+    public Parser limits(ParseLimits limits) {
+        Validate.notNull(limits, "Limits must not be null");
+        this.limits = limits;
+        return this;
+    }
+
+    public ParseLimits limits() {
+        return limits;
+    }
+
+    public boolean isTruncated() {
+        return treeBuilder.truncated;
+    }
+
     
     
     public static Document parse(String html, String baseUri) {
@@ -0,0 +1,117 @@
+package org.jsoup.parser;
+
+import org.jsoup.UncheckedIOException;
+import org.jsoup.helper.StringUtil;
+import org.jsoup.helper.Validate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class SitemapExtractor {
+    private final ArrayList<String> urls = new ArrayList<String>();
+    private final ArrayList<String> sitemaps = new ArrayList<String>();
+    private final StringBuilder loc = new StringBuilder();
+    private int maxUrls = 50000;
+    private CharacterReader reader;
+    private Tokeniser tokeniser;
+
+    public SitemapExtractor maxUrls(int maxUrls) {
+        Validate.isTrue(maxUrls >= 0, "maxUrls must be positive");
+        this.maxUrls = maxUrls;
+        return this;
+    }
+
+    public SitemapExtractor extract(String xml, String baseUri) {
+        Validate.notNull(xml, "String input must not be null");
+        return extract(reader != null ? reader.reset(xml) : new CharacterReader(xml), baseUri);
+    }
+
+    public SitemapExtractor extract(Reader input, String baseUri) throws IOException {
+        Validate.notNull(input, "Reader input must not be null");
+        try {
+            return extract(reader != null ? reader.reset(input) : new CharacterReader(input), baseUri);
+        } catch (UncheckedIOException e) {
+            throw e.ioException();
+        }
+    }
+
+    public SitemapExtractor reset() {
+        urls.clear();
+        sitemaps.clear();
+        loc.setLength(0);
+        if (reader != null) reader.release();
+        if (tokeniser != null) tokeniser.reset(reader, ParseErrorList.noTracking());
+        return this;
+    }
+
+    public List<String> urls() {
+        return urls;
+    }
+
+    public List<String> sitemaps() {
+        return sitemaps;
+    }
+
+    SitemapExtractor extract(CharacterReader reader, String baseUri) {
+        Validate.notNull(baseUri, "BaseURI must not be null");
+        urls.clear();
+        sitemaps.clear();
+        loc.setLength(0);
+        String entry = null;
+        boolean inLoc = false;
+        this.reader = reader;
+        tokeniser = tokeniser != null ? tokeniser.reset(reader, ParseErrorList.noTracking()) : new Tokeniser(reader, ParseErrorList.noTracking());
+        while (true) {
+            Token token = tokeniser.read();
+            switch (token.type) {
+                case StartTag:
+                    String name = localName(token.asStartTag().normalName());
+                    tokeniser.acknowledgeSelfClosingFlag();
+                    if (name.equals("url") || name.equals("sitemap")) {
+                        entry = name;
+                    } else if (name.equals("loc") && entry != null && !token.asStartTag().isSelfClosing()) {
+                        inLoc = true;
+                        loc.setLength(0);
+                    }
+                    break;
+                case EndTag:
+                    name = localName(token.asEndTag().normalName());
+                    if (name.equals("loc") && inLoc) {
+                        inLoc = false;
+                        addLoc(entry, baseUri);
+                    } else if (name.equals("url") || name.equals("sitemap")) {
+                        entry = null;
+                        inLoc = false;
+                    }
+                    break;
+                case Character:
+                    if (inLoc) loc.append(token.asCharacter().getData());
+                    break;
+                case EOF:
+                    token.reset();
+                    return this;
+            }
+            token.reset();
+        }
+    }
+
+    private void addLoc(String entry, String baseUri) {
+        String href = loc.toString().trim();
+        if (href.length() == 0) return;
+        String abs = StringUtil.resolve(baseUri, href);
+        if (abs.length() == 0) return;
+        if (entry.equals("sitemap")) {
+            sitemaps.add(abs);
+        } else if (urls.size() < maxUrls) {
+            urls.add(abs);
+        }
+    }
+
+    private static String localName(String name) {
+        int colon = name.indexOf(':');
+        return colon == -1 ? name : name.substring(colon + 1);
+    }
+}
@@ -173,6 +173,15 @@ abstract class Token {
             }
         }
 
+        final void appendAttributeValue(CharacterReader.Span append) {
+            if (pendingAttributeValueS == null && pendingAttributeValue.length() == 0) {
+                appendAttributeValue(append.toString());
+            } else {
+                ensureAttributeValue();
+                append.appendTo(pendingAttributeValue);
+            }
+        }
+
         final void appendAttributeValue(char append) {
             ensureAttributeValue();
             pendingAttributeValue.append(append);
@@ -9,13 +9,14 @@ import java.util.Arrays;
 final class Tokeniser {
     static final char replacementChar = '\uFFFD'; 
     private static final char[] notCharRefCharsSorted = new char[]{'\t', '\n', '\r', '\f', ' ', '<', '&'};
+    private static final int maxCharRefNameLen = 32;
 
     static {
         Arrays.sort(notCharRefCharsSorted);
     }
 
-    private final CharacterReader reader; 
-    private final ParseErrorList errors; 
+    private CharacterReader reader; 
+    private ParseErrorList errors; 
 
     private TokeniserState state = TokeniserState.Data; 
     private Token emitPending; 
@@ -38,6 +39,32 @@ final class Tokeniser {
         this.errors = errors;
     }
 
+    Tokeniser reset(CharacterReader reader, ParseErrorList errors) {
+        this.reader = reader;
+        this.errors = errors;
+        state = TokeniserState.Data;
+        emitPending = null;
+        isEmitPending = false;
+        charsString = null;
+        charsBuilder = trim(charsBuilder);
+        dataBuffer = trim(dataBuffer);
+        tagPending = null;
+        startPending.reset();
+        endPending.reset();
+        charPending.reset();
+        doctypePending.reset();
+        commentPending.reset();
+        lastStartTag = null;
+        selfClosingFlagAcknowledged = true;
+        return this;
+    }
+
+    private static StringBuilder trim(StringBuilder builder) {
+        if (builder.capacity() > CharacterReader.maxRetainedLen) return new StringBuilder(1024);
+        Token.reset(builder);
+        return builder;
+    }
+
     Token read() {
         if (!selfClosingFlagAcknowledged) {
             error("Self closing flag not acknowledged");
@@ -95,6 +122,17 @@ final class Tokeniser {
         }
     }
 
+    void emit(final CharacterReader.Span span) {
+        if (charsString == null) {
+            charsString = span.toString();
+        } else {
+            if (charsBuilder.length() == 0) {
+                charsBuilder.append(charsString);
+            }
+            span.appendTo(charsBuilder);
+        }
+    }
+
     void emit(char[] chars) {
         emit(String.valueOf(chars));
     }
@@ -164,12 +202,16 @@ final class Tokeniser {
             }
         } else { 
             
-            String nameRef = reader.consumeLetterThenDigitSequence();
+            String nameRef = reader.consumeLetterThenDigitSequence(maxCharRefNameLen);
+            if (nameRef.length() == maxCharRefNameLen) {
+                reader.rewindToMark();
+                return null;
+            }
             boolean looksLegit = reader.matches(';');
             
-            boolean found = (Entities.isBaseNamedEntity(nameRef) || (Entities.isNamedEntity(nameRef) && looksLegit));
+            int numChars = Entities.codepointsForName(nameRef, multipointHolder, !looksLegit);
 
-            if (!found) {
+            if (numChars == 0) {
                 reader.rewindToMark();
                 if (looksLegit) 
                     characterReferenceError(String.format("invalid named referenece '%s'", nameRef));
@@ -182,7 +224,6 @@ final class Tokeniser {
             }
             if (!reader.matchConsume(";"))
                 characterReferenceError("missing semicolon"); 
-            int numChars = Entities.codepointsForName(nameRef, multipointHolder);
             if (numChars == 1) {
                 codeRef[0] = multipointHolder[0];
                 return codeRef;
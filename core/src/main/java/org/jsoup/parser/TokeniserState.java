@@ -24,8 +24,7 @@ enum TokeniserState {
                     t.emit(new Token.EOF());
                     break;
                 default:
-                    String data = r.consumeData();
-                    t.emit(data);
+                    t.emit(r.consumeDataSpan());
                     break;
             }
         }
@@ -55,8 +54,7 @@ enum TokeniserState {
                     t.emit(new Token.EOF());
                     break;
                 default:
-                    String data = r.consumeToAny('&', '<', nullChar);
-                    t.emit(data);
+                    t.emit(r.consumeToAnySpan('&', '<', nullChar));
                     break;
             }
         }
@@ -340,8 +338,7 @@ enum TokeniserState {
                     t.emit(replacementChar);
                     break;
                 default:
-                    String data = r.consumeToAny('-', '<', nullChar);
-                    t.emit(data);
+                    t.emit(r.consumeToAnySpan('-', '<', nullChar));
             }
         }
     },
@@ -465,8 +462,7 @@ enum TokeniserState {
                     t.transition(Data);
                     break;
                 default:
-                    String data = r.consumeToAny('-', '<', nullChar);
-                    t.emit(data);
+                    t.emit(r.consumeToAnySpan('-', '<', nullChar));
             }
         }
     },
@@ -725,7 +721,7 @@ enum TokeniserState {
     },
     AttributeValue_doubleQuoted {
         void read(Tokeniser t, CharacterReader r) {
-            String value = r.consumeToAny(attributeDoubleValueCharsSorted);
+            CharacterReader.Span value = r.consumeToAnySpan(attributeDoubleValueCharsSorted);
             if (value.length() > 0)
                 t.tagPending.appendAttributeValue(value);
             else
@@ -757,7 +753,7 @@ enum TokeniserState {
     },
     AttributeValue_singleQuoted {
         void read(Tokeniser t, CharacterReader r) {
-            String value = r.consumeToAny(attributeSingleValueCharsSorted);
+            CharacterReader.Span value = r.consumeToAnySpan(attributeSingleValueCharsSorted);
             if (value.length() > 0)
                 t.tagPending.appendAttributeValue(value);
             else
@@ -789,7 +785,7 @@ enum TokeniserState {
     },
     AttributeValue_unquoted {
         void read(Tokeniser t, CharacterReader r) {
-            String value = r.consumeToAnySorted(attributeValueUnquoted);
+            CharacterReader.Span value = r.consumeToAnySortedSpan(attributeValueUnquoted);
             if (value.length() > 0)
                 t.tagPending.appendAttributeValue(value);
 
@@ -990,7 +986,7 @@ enum TokeniserState {
                     t.transition(Data);
                     break;
                 default:
-                    t.commentPending.data.append(r.consumeToAny('-', nullChar));
+                    r.consumeToAnySpan('-', nullChar).appendTo(t.commentPending.data);
             }
         }
     },
@@ -1673,8 +1669,7 @@ enum TokeniserState {
                 t.emit(new Token.EOF());
                 break;
             default:
-                String data = r.consumeToAny('<', nullChar);
-                t.emit(data);
+                t.emit(r.consumeToAnySpan('<', nullChar));
                 break;
         }
     }
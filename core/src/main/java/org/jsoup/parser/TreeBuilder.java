@@ -5,6 +5,8 @@ import org.jsoup.nodes.Attributes;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 
+import java.io.Reader;
+import java.nio.CharBuffer;
 import java.util.ArrayList;
 
 
@@ -17,6 +19,8 @@ abstract class TreeBuilder {
     protected Token currentToken; 
     protected ParseErrorList errors; 
     protected ParseSettings settings;
+    ParseLimits limits = ParseLimits.unlimited;
+    boolean truncated;
 
     private Token.StartTag start = new Token.StartTag(); 
     private Token.EndTag end  = new Token.EndTag();
@@ -25,24 +29,59 @@ abstract class TreeBuilder {
 
     protected void initialiseParse(String input, String baseUri, ParseErrorList errors, ParseSettings settings) {
         Validate.notNull(input, "String input must not be null");
+        initialiseParse(reader != null ? reader.reset(input) : new CharacterReader(input), baseUri, errors, settings);
+    }
+
+    protected void initialiseParse(CharacterReader input, String baseUri, ParseErrorList errors, ParseSettings settings) {
+        Validate.notNull(input, "Input must not be null");
         Validate.notNull(baseUri, "BaseURI must not be null");
 
         doc = new Document(baseUri);
         this.settings = settings;
-        reader = new CharacterReader(input);
+        reader = input;
         this.errors = errors;
-        tokeniser = new Tokeniser(reader, errors);
-        stack = new ArrayList<Element>(32);
+        tokeniser = tokeniser != null ? tokeniser.reset(reader, errors) : new Tokeniser(reader, errors);
+        if (stack != null) stack.clear();
+        else stack = new ArrayList<Element>(32);
         this.baseUri = baseUri;
+        truncated = false;
+    }
+
+    void reset() {
+        doc = null;
+        baseUri = null;
+        currentToken = null;
+        errors = null;
+        if (stack != null) stack.clear();
+        if (reader != null) reader.release();
+        if (tokeniser != null) tokeniser.reset(reader, ParseErrorList.noTracking());
+        start.reset();
+        end.reset();
     }
 
     Document parse(String input, String baseUri, ParseErrorList errors, ParseSettings settings) {
+        Validate.notNull(input, "String input must not be null");
+        return parse(reader != null ? reader.reset(input) : new CharacterReader(input), baseUri, errors, settings);
+    }
+
+    Document parse(Reader input, String baseUri, ParseErrorList errors, ParseSettings settings) {
+        Validate.notNull(input, "Reader input must not be null");
+        return parse(reader != null ? reader.reset(input) : new CharacterReader(input), baseUri, errors, settings);
+    }
+
+    Document parse(CharBuffer input, String baseUri, ParseErrorList errors, ParseSettings settings) {
+        Validate.notNull(input, "CharBuffer input must not be null");
+        return parse(reader != null ? reader.reset(input) : new CharacterReader(input), baseUri, errors, settings);
+    }
+
+    Document parse(CharacterReader input, String baseUri, ParseErrorList errors, ParseSettings settings) {
         initialiseParse(input, baseUri, errors, settings);
         runParser();
         return doc;
     }
 
     protected void runParser() {
+        int elements = 0;
         while (true) {
             Token token = tokeniser.read();
             process(token);
@@ -50,6 +89,13 @@ abstract class TreeBuilder {
 
             if (token.type == Token.TokenType.EOF)
                 break;
+            if (token.type == Token.TokenType.StartTag)
+                elements++;
+            if (limits.exceeded(reader, elements, stack.size())) {
+                truncated = true;
+                process(new Token.EOF());
+                break;
+            }
         }
     }
 
@@ -17,7 +17,7 @@ public class XmlTreeBuilder extends TreeBuilder {
     }
 
     @Override
-    protected void initialiseParse(String input, String baseUri, ParseErrorList errors, ParseSettings settings) {
+    protected void initialiseParse(CharacterReader input, String baseUri, ParseErrorList errors, ParseSettings settings) {
         super.initialiseParse(input, baseUri, errors, settings);
         stack.add(doc); 
         doc.outputSettings().syntax(Document.OutputSettings.Syntax.xml);